@@ -0,0 +1,51 @@
+#!/usr/bin/env python3
+"""Compares two JMH JSON result files, e.g. build/reports/jmh/<before>.json and <after>.json.
+
+Prints each benchmark present in both runs with its primary score, error and relative change.
+For time-per-operation modes a negative change is an improvement; for throughput a positive one is.
+
+  scripts/jmh-compare.py build/reports/jmh/20240101-120000.json build/reports/jmh/20240102-120000.json
+"""
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        results = {}
+        for entry in json.load(f):
+            params = ",".join(f"{k}={v}" for k, v in sorted((entry.get("params") or {}).items()))
+            key = entry["benchmark"].rsplit(".", 2)[-2] + "." + entry["benchmark"].rsplit(".", 1)[-1]
+            if params:
+                key += f" [{params}]"
+            results[key] = entry
+        return results
+
+
+def main(argv):
+    if len(argv) != 3:
+        print(f"usage: {argv[0]} <baseline.json> <candidate.json>", file=sys.stderr)
+        return 2
+
+    baseline, candidate = load(argv[1]), load(argv[2])
+    rows = []
+    for key in sorted(baseline.keys() & candidate.keys()):
+        before, after = baseline[key]["primaryMetric"], candidate[key]["primaryMetric"]
+        change = (after["score"] - before["score"]) / before["score"] * 100 if before["score"] else float("nan")
+        # JMH writes "NaN" as a string when a run has too few iterations for an error estimate.
+        rows.append((key, before["score"], after["score"], float(after["scoreError"]), after["scoreUnit"], change))
+
+    width = max((len(row[0]) for row in rows), default=9)
+    print(f"{'benchmark':<{width}}  {'baseline':>12}  {'candidate':>12}  {'error':>10}  {'unit':<8}  {'change':>8}")
+    for key, before, after, error, unit, change in rows:
+        print(f"{key:<{width}}  {before:>12.3f}  {after:>12.3f}  {error:>10.3f}  {unit:<8}  {change:>+7.1f}%")
+
+    for key in sorted(baseline.keys() - candidate.keys()):
+        print(f"only in baseline:  {key}")
+    for key in sorted(candidate.keys() - baseline.keys()):
+        print(f"only in candidate: {key}")
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main(sys.argv))
@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# Measures how long a command takes to start the application and exit, and its peak RSS.
+# Intended for training-style runs that exit once the context is refreshed, for example:
+#
+#   scripts/measure-startup.sh java -Dspring.context.exit=onRefresh -jar build/libs/app.jar
+#
+# Prints wall-clock milliseconds and peak resident set size (VmHWM) in MiB.
+set -euo pipefail
+
+if [ "$#" -eq 0 ]; then
+  echo "usage: $0 <command> [args...]" >&2
+  exit 2
+fi
+
+start=$(date +%s%N)
+"$@" > /dev/null 2>&1 &
+pid=$!
+
+peak_kb=0
+while kill -0 "$pid" 2> /dev/null; do
+  hwm=$(awk '/^VmHWM:/ { print $2 }' "/proc/$pid/status" 2> /dev/null || true)
+  if [ -n "${hwm:-}" ] && [ "$hwm" -gt "$peak_kb" ]; then
+    peak_kb=$hwm
+  fi
+  sleep 0.02
+done
+status=0
+wait "$pid" || status=$?
+end=$(date +%s%N)
+
+echo "exit=${status} startup_ms=$(( (end - start) / 1000000 )) peak_rss_mib=$(( peak_kb / 1024 ))"
@@ -0,0 +1,52 @@
+package com._p1m.productivity_suite;
+
+import com._p1m.productivity_suite.config.utils.DtoUtil;
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.mapper.UserMapperImpl;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Shared setup for the benchmarks, which run outside a Spring context.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String EMAIL = "jane.doe@example.com";
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /** JwtUtil reads its key from the environment, system properties or .env; benchmarks use a fixed one. */
+    public static void installJwtSecret() {
+        System.setProperty("JWT_SECRET_KEY", "benchmark-secret-key-with-at-least-256-bits-of-entropy");
+    }
+
+    public static DtoUtil dtoUtil() {
+        return new DtoUtil(List.of(new UserMapperImpl()));
+    }
+
+    /** Configured as the application's ModelMapper bean was before DtoUtil moved to MapStruct. */
+    public static ModelMapper modelMapper() {
+        final ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+        return modelMapper;
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(42L)
+                .name("Jane Doe")
+                .username("jane.doe")
+                .email(EMAIL)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6nSx3Nd1dGZK9IZ8Wlw7Jyy")
+                .emailVerified(true)
+                .gender(2)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 9, 30))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 18, 5))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com._p1m.productivity_suite.config.response.utils;
+
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pre-encoded error body against serializing the equivalent {@link ApiResponse} with Jackson.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorBodyTemplateBenchmark {
+
+    private static final String ENDPOINT = "/productivity-suite/api/v1/users/42";
+
+    private final ErrorBodyTemplate template = ErrorBodyTemplate.of(404, "User not found.", "No user with id 42");
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().filters(FieldSetFilters.defaultFilters()).build();
+
+    @Benchmark
+    public byte[] template() {
+        return this.template.render("GET", ENDPOINT);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        final Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("method", "GET");
+        meta.put("endpoint", ENDPOINT);
+        return this.mapper.writeValueAsBytes(ApiResponse.builder()
+                .success(0)
+                .code(404)
+                .meta(meta)
+                .data("No user with id 42")
+                .message("User not found.")
+                .duration(Instant.now().getEpochSecond())
+                .build());
+    }
+}
@@ -0,0 +1,79 @@
+package com._p1m.productivity_suite.config.response.utils;
+
+import com._p1m.productivity_suite.BenchmarkFixtures;
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a controller does after its service call: {@link ResponseUtils#buildResponse} followed by the
+ * message converter's serialization, in every negotiated encoding and with or without a sparse field set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseUtilsBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"", "id,name,email"})
+    public String fields;
+
+    private ObjectMapper mapper;
+    private UserDto user;
+
+    @Setup
+    public void setUp() {
+        final Jackson2ObjectMapperBuilder builder = switch (this.format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        this.mapper = builder.filters(FieldSetFilters.defaultFilters()).build();
+        this.user = BenchmarkFixtures.dtoUtil().map(BenchmarkFixtures.user(), UserDto.class);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/productivity-suite/api/v1/auth/me");
+        if (!this.fields.isEmpty()) {
+            request.setParameter(FieldSetFilters.FIELDS_PARAMETER, this.fields);
+        }
+        final ApiResponse body = ApiResponse.builder()
+                .success(1)
+                .code(200)
+                .data(this.user)
+                .message("User retrieved successfully.")
+                .build();
+
+        final ResponseEntity<ApiResponse> response = ResponseUtils.buildResponse(request, body, Instant.now().getEpochSecond());
+
+        final ObjectWriter writer = request.getAttribute(FieldSetFilters.REQUEST_ATTRIBUTE) instanceof FilterProvider filters
+                ? this.mapper.writer(filters)
+                : this.mapper.writer();
+        return writer.writeValueAsBytes(response.getBody());
+    }
+}
@@ -0,0 +1,66 @@
+package com._p1m.productivity_suite.config.utils;
+
+import com._p1m.productivity_suite.BenchmarkFixtures;
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct-backed {@link DtoUtil} against the ModelMapper it replaced. Run with {@code -prof gc} to compare
+ * {@code gc.alloc.rate.norm} as well as time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoUtilBenchmark {
+
+    private DtoUtil dtoUtil;
+    private ModelMapper modelMapper;
+    private User user;
+    private List<User> page;
+
+    @Setup
+    public void setUp() {
+        this.dtoUtil = BenchmarkFixtures.dtoUtil();
+        this.modelMapper = BenchmarkFixtures.modelMapper();
+        this.user = BenchmarkFixtures.user();
+        this.page = Collections.nCopies(20, this.user);
+    }
+
+    @Benchmark
+    public UserDto map() {
+        return this.dtoUtil.map(this.user, UserDto.class);
+    }
+
+    @Benchmark
+    public List<UserDto> mapListOfTwenty() {
+        return this.dtoUtil.mapList(this.page, UserDto.class);
+    }
+
+    @Benchmark
+    public UserDto modelMapperMap() {
+        return this.modelMapper.map(this.user, UserDto.class);
+    }
+
+    @Benchmark
+    public List<UserDto> modelMapperMapListOfTwenty() {
+        return this.page.stream().map(user -> this.modelMapper.map(user, UserDto.class)).toList();
+    }
+}
@@ -0,0 +1,108 @@
+package com._p1m.productivity_suite.config.utils;
+
+import com._p1m.productivity_suite.BenchmarkFixtures;
+import com._p1m.productivity_suite.ProductivitySuiteApplication;
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.repository.UserRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts 10k users through {@link EntityUtil#saveAllEntities} against an embedded Postgres, with Hibernate's
+ * JDBC batching at the configured size and switched off ({@code batchSize = 1}), which is what IDENTITY ids forced.
+ * Each invocation inserts into an emptied table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EntityUtilInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"50", "1"})
+    private int batchSize;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private List<User> users;
+    private int run;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws IOException {
+        BenchmarkFixtures.installJwtSecret();
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(ProductivitySuiteApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--app.warmup.enabled=false",
+                        "--logging.level.root=WARN");
+        userRepository = context.getBean(UserRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareRows() {
+        jdbcTemplate.execute("TRUNCATE users");
+        run++;
+        users = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            final String name = "insert-" + run + "-" + i;
+            users.add(User.builder()
+                    .name(name)
+                    .username(name)
+                    .email(name + "@bench.test")
+                    .password("not-a-hash")
+                    .gender(1)
+                    .emailVerified(false)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<User> insertTenThousandUsers() {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            return EntityUtil.saveAllEntities(userRepository, users, "User");
+        });
+    }
+}
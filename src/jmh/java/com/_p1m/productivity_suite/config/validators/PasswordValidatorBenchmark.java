@@ -0,0 +1,78 @@
+package com._p1m.productivity_suite.config.validators;
+
+import com._p1m.productivity_suite.security.dto.RegisterRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The password check on its own, and the whole register request through Hibernate Validator as a controller sees it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordValidatorBenchmark {
+
+    private final PasswordValidator passwordValidator = new PasswordValidator();
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private RegisterRequest validRequest;
+    private RegisterRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        this.validatorFactory = Validation.buildDefaultValidatorFactory();
+        this.validator = this.validatorFactory.getValidator();
+        this.validRequest = RegisterRequest.builder()
+                .name("Jane Doe")
+                .email("jane.doe@example.com")
+                .password("Secret@123")
+                .gender(2)
+                .build();
+        this.invalidRequest = RegisterRequest.builder()
+                .name("J")
+                .email("not-an-email")
+                .password("secret")
+                .gender(9)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean validPassword() {
+        // A valid password never touches the constraint context.
+        return this.passwordValidator.isValid("Secret@123", null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> validRegisterRequest() {
+        return this.validator.validate(this.validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> invalidRegisterRequest() {
+        return this.validator.validate(this.invalidRequest);
+    }
+}
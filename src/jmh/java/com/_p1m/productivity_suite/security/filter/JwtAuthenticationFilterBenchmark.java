@@ -0,0 +1,48 @@
+package com._p1m.productivity_suite.security.filter;
+
+import com._p1m.productivity_suite.security.config.AdminProperties;
+import com._p1m.productivity_suite.security.service.impl.JwtServiceImpl;
+import com._p1m.productivity_suite.security.utils.AdminUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The permitted-path check every request goes through before token validation. Protected paths are the worst
+ * case, since they are matched against every pattern.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({
+            "/productivity-suite/api/v1/auth/login",
+            "/swagger-ui/index.html",
+            "/productivity-suite/api/v1/admin/users",
+            "/productivity-suite/api/v1/users/42/settings"
+    })
+    public String path;
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(new JwtServiceImpl(),
+            new AdminUtil(new JdbcTemplate(), new TransactionTemplate(), new AdminProperties()));
+
+    @Benchmark
+    public boolean isPermittedPath() {
+        return this.filter.isPermittedPath(this.path);
+    }
+}
@@ -0,0 +1,52 @@
+package com._p1m.productivity_suite.security.service.impl;
+
+import com._p1m.productivity_suite.BenchmarkFixtures;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token validation against a growing revocation set; the set is never pruned, so it grows with every logout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceImplBenchmark {
+
+    @Param({"0", "10000", "100000"})
+    public int revokedTokens;
+
+    private final JwtServiceImpl jwtService = new JwtServiceImpl();
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.installJwtSecret();
+        for (int i = 0; i < this.revokedTokens; i++) {
+            this.jwtService.revokeToken(this.jwtService.generateToken(Map.of("n", i), "revoked-" + i + "@example.com", 60_000));
+        }
+        this.token = this.jwtService.generateToken(Map.of("email", BenchmarkFixtures.EMAIL), BenchmarkFixtures.EMAIL,
+                TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        // A fresh copy, as each request carries its own header string whose hash is not cached yet.
+        return this.jwtService.validateToken(new String(this.token));
+    }
+}
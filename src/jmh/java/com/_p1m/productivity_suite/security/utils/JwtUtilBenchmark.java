@@ -0,0 +1,51 @@
+package com._p1m.productivity_suite.security.utils;
+
+import com._p1m.productivity_suite.BenchmarkFixtures;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final Map<String, Object> CLAIMS = Map.of("email", BenchmarkFixtures.EMAIL, "name", "Jane Doe");
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.installJwtSecret();
+        this.token = JwtUtil.generateToken(CLAIMS, BenchmarkFixtures.EMAIL, TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return JwtUtil.generateToken(CLAIMS, BenchmarkFixtures.EMAIL, TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public Claims decodeToken() {
+        return JwtUtil.decodeToken(this.token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return JwtUtil.isTokenValid(this.token);
+    }
+}
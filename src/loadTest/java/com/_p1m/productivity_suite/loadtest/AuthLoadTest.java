@@ -0,0 +1,150 @@
+package com._p1m.productivity_suite.loadtest;
+
+import com._p1m.productivity_suite.ProductivitySuiteApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the throughput ceiling of the auth endpoints with no external services: starts an embedded Postgres,
+ * boots the application against it, seeds synthetic users and drives open-model login, {@code /me} and logout
+ * traffic from this JVM. Run it with {@code gradle loadTest}; settings are {@code loadTest.*} system properties.
+ *
+ * <p>Raise {@code loadTest.rate} between runs until the error rate or the tail latency breaks away; the rate
+ * before that is the ceiling for the machine the test ran on. The generator shares the JVM and the CPU with the
+ * application, so compare runs from the same machine only.
+ *
+ * <p>{@code loadTest.compareThreads=true} runs the same load twice, on platform and then on virtual request
+ * threads, each against a fresh database, and prints the latency change of the virtual run. It needs Java 21
+ * ({@code -PjavaVersion=21}). {@code loadTest.baseline} compares a single run with an earlier report instead.
+ */
+public final class AuthLoadTest {
+
+    private static final String PASSWORD = "LoadTest@2024";
+
+    /** Seeds every user in one statement, all sharing one BCrypt hash computed up front. */
+    private static final String SEED_USERS = """
+            INSERT INTO users (id, name, username, email, password, email_verified, status, gender,
+                               login_first_time, login_count, created_at, updated_at)
+            SELECT nextval('users_seq'), 'Load User ' || g, 'load-user-' || g, 'load-user-' || g || '@load.test', ?,
+                   true, true, 1 + g % 3, false, 0, now(), now()
+            FROM generate_series(1, ?) AS g
+            """;
+
+    private AuthLoadTest() {
+    }
+
+    static String email(final int user) {
+        return "load-user-" + user + "@load.test";
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Settings settings = new Settings(
+                Integer.getInteger("loadTest.users", 10_000),
+                Double.parseDouble(System.getProperty("loadTest.rate", "200")),
+                Duration.parse(System.getProperty("loadTest.duration", "PT1M")),
+                Duration.parse(System.getProperty("loadTest.warmup", "PT15S")),
+                System.getProperty("loadTest.mix", "login:20,me:70,logout:10"),
+                Integer.getInteger("loadTest.maxInFlight", 2_000));
+        final boolean compareThreads = Boolean.getBoolean("loadTest.compareThreads");
+        final boolean virtualThreads = Boolean.getBoolean("loadTest.virtualThreads");
+        final String baseline = System.getProperty("loadTest.baseline");
+        final Path reportDir = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load"));
+
+        if (System.getenv("JWT_SECRET_KEY") == null && System.getProperty("JWT_SECRET_KEY") == null) {
+            System.setProperty("JWT_SECRET_KEY", "load-test-secret-key-with-at-least-256-bits-of-entropy");
+        }
+        if ((compareThreads || virtualThreads) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21; run with -PjavaVersion=21 (running on "
+                    + Runtime.version() + ")");
+        }
+
+        final String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        final ObjectMapper json = new ObjectMapper();
+        if (compareThreads) {
+            final Map<String, Object> platform = run(settings, false, reportDir, timestamp + "-platform");
+            final Map<String, Object> virtual = run(settings, true, reportDir, timestamp + "-virtual");
+            LoadReport.compare("platform threads", json.valueToTree(platform), json.valueToTree(virtual));
+            return;
+        }
+        final Map<String, Object> summary = run(settings, virtualThreads, reportDir, timestamp);
+        if (baseline != null) {
+            LoadReport.compare(baseline, json.readTree(Path.of(baseline).toFile()), json.valueToTree(summary));
+        }
+    }
+
+    /**
+     * Runs one load test against a fresh database and application, and writes its report.
+     *
+     * @return the report's summary.
+     */
+    private static Map<String, Object> run(final Settings settings, final boolean virtualThreads, final Path reportDir,
+                                           final String reportName) throws Exception {
+        System.out.printf("%n%s threads%n", virtualThreads ? "Virtual" : "Platform");
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductivitySuiteApplication.class)
+                     .run("--server.port=0",
+                             "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                             "--spring.datasource.username=postgres",
+                             "--spring.datasource.password=postgres",
+                             "--spring.threads.virtual.enabled=" + virtualThreads,
+                             "--logging.level.root=WARN",
+                             "--logging.level.com._p1m=WARN")) {
+
+            final long seedStart = System.nanoTime();
+            final String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+            final int seeded = context.getBean(JdbcTemplate.class).update(SEED_USERS, hash, settings.users());
+            System.out.printf("Seeded %d users in %d ms%n", seeded, Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            final AuthTraffic traffic = new AuthTraffic(client, "http://localhost:" + port, settings.users(), PASSWORD,
+                    AuthTraffic.parseMix(settings.mix()), settings.users());
+
+            if (!settings.warmup().isZero()) {
+                System.out.printf("Warming up for %s at %.0f req/s%n", settings.warmup(), settings.rate());
+                new OpenLoadGenerator(settings.rate(), settings.warmup(), settings.maxInFlight())
+                        .run(traffic::next, new LoadReport());
+            }
+
+            System.out.printf("Running for %s at %.0f req/s (%s)%n", settings.duration(), settings.rate(), settings.mix());
+            final LoadReport report = new LoadReport();
+            final Duration elapsed = new OpenLoadGenerator(settings.rate(), settings.duration(), settings.maxInFlight())
+                    .run(traffic::next, report);
+
+            final Map<String, Object> described = new LinkedHashMap<>();
+            described.put("users", settings.users());
+            described.put("ratePerSecond", settings.rate());
+            described.put("duration", settings.duration().toString());
+            described.put("mix", settings.mix());
+            described.put("maxInFlight", settings.maxInFlight());
+            described.put("virtualThreads", virtualThreads);
+            described.put("javaVersion", Runtime.version().toString());
+            described.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+            final Map<String, Object> summary = report.summary(elapsed, described);
+            report.print(summary);
+            final Path file = report.write(reportDir, reportName, summary);
+            System.out.printf("%nReport written to %s%n", file);
+            return summary;
+        }
+    }
+
+    private record Settings(int users, double rate, Duration duration, Duration warmup, String mix, int maxInFlight) {
+    }
+}
@@ -0,0 +1,149 @@
+package com._p1m.productivity_suite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mixed auth traffic over the seeded users. Logins feed a pool of access tokens that {@code /me} borrows and
+ * returns and logout consumes; when the pool is empty the request becomes a login.
+ */
+class AuthTraffic {
+
+    static final String LOGIN = "login";
+    static final String ME = "me";
+    static final String LOGOUT = "logout";
+
+    private static final String AUTH_PATH = "/productivity-suite/api/v1/auth";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int users;
+    private final String password;
+    private final Map<String, Integer> mix;
+    private final int totalWeight;
+    private final int maxSessions;
+    private final ConcurrentLinkedQueue<String> sessions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    AuthTraffic(final HttpClient client, final String baseUrl, final int users, final String password,
+                final Map<String, Integer> mix, final int maxSessions) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.password = password;
+        this.mix = new LinkedHashMap<>(mix);
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.maxSessions = maxSessions;
+        if (this.totalWeight <= 0 || !Set.of(LOGIN, ME, LOGOUT).containsAll(mix.keySet())) {
+            throw new IllegalArgumentException("Mix must weigh login, me and logout, e.g. login:20,me:70,logout:10");
+        }
+    }
+
+    /** Parses {@code login:20,me:70,logout:10}. */
+    static Map<String, Integer> parseMix(final String value) {
+        final Map<String, Integer> mix = new LinkedHashMap<>();
+        for (final String part : value.split(",")) {
+            final String[] pair = part.trim().split(":");
+            mix.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    OpenLoadGenerator.Request next() {
+        final String operation = this.pick();
+        if (!LOGIN.equals(operation)) {
+            final String token = this.borrow();
+            if (token != null) {
+                return ME.equals(operation)
+                        ? new OpenLoadGenerator.Request(ME, () -> this.me(token))
+                        : new OpenLoadGenerator.Request(LOGOUT, () -> this.logout(token));
+            }
+        }
+        final String email = AuthLoadTest.email(ThreadLocalRandom.current().nextInt(1, this.users + 1));
+        return new OpenLoadGenerator.Request(LOGIN, () -> this.login(email));
+    }
+
+    private CompletableFuture<Boolean> login(final String email) {
+        final String body = "{\"email\":\"" + email + "\",\"password\":\"" + this.password + "\"}";
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(this.baseUrl + AUTH_PATH + "/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return this.client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            try {
+                final JsonNode token = JSON.readTree(response.body()).path("data").path("accessToken");
+                if (!token.isTextual()) {
+                    return false;
+                }
+                this.offer(token.asText());
+                return true;
+            } catch (final IOException e) {
+                return false;
+            }
+        });
+    }
+
+    private CompletableFuture<Boolean> me(final String token) {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(this.baseUrl + AUTH_PATH + "/me"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return this.client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(response -> {
+            this.offer(token);
+            return response.statusCode() == 200;
+        });
+    }
+
+    private CompletableFuture<Boolean> logout(final String token) {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(this.baseUrl + AUTH_PATH + "/logout"))
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return this.client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> response.statusCode() == 200);
+    }
+
+    private String pick() {
+        int roll = ThreadLocalRandom.current().nextInt(this.totalWeight);
+        for (final Map.Entry<String, Integer> entry : this.mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return LOGIN;
+    }
+
+    private String borrow() {
+        final String token = this.sessions.poll();
+        if (token != null) {
+            this.sessionCount.decrementAndGet();
+        }
+        return token;
+    }
+
+    private void offer(final String token) {
+        if (this.sessionCount.incrementAndGet() <= this.maxSessions) {
+            this.sessions.offer(token);
+        } else {
+            this.sessionCount.decrementAndGet();
+        }
+    }
+}
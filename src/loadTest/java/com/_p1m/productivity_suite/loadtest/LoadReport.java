@@ -0,0 +1,159 @@
+package com._p1m.productivity_suite.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms and outcome counts. Latency runs from each request's intended start,
+ * so time spent queued behind a saturated server counts against it.
+ */
+class LoadReport {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final String[] COMPARED = {"p50Ms", "p90Ms", "p99Ms", "p999Ms"};
+
+    private final Map<String, Outcomes> outcomes = new ConcurrentHashMap<>();
+
+    void success(final String operation, final long latencyNanos) {
+        this.outcomes(operation).record(latencyNanos, false);
+    }
+
+    void failure(final String operation, final long latencyNanos) {
+        this.outcomes(operation).record(latencyNanos, true);
+    }
+
+    /** Requests never sent because too many were already in flight. */
+    void rejected(final String operation) {
+        this.outcomes(operation).rejected.increment();
+    }
+
+    Map<String, Object> summary(final Duration elapsed, final Map<String, Object> settings) {
+        final Map<String, Object> operations = new LinkedHashMap<>();
+        final Histogram total = new Histogram(MAX_TRACKABLE_NANOS, 3);
+        long errors = 0;
+        long rejected = 0;
+        for (final Map.Entry<String, Outcomes> entry : new TreeMap<>(this.outcomes).entrySet()) {
+            final Outcomes outcome = entry.getValue();
+            operations.put(entry.getKey(), describe(outcome.latency, outcome.errors.sum(), outcome.rejected.sum(), elapsed));
+            total.add(outcome.latency);
+            errors += outcome.errors.sum();
+            rejected += outcome.rejected.sum();
+        }
+
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("settings", settings);
+        summary.put("elapsedSeconds", elapsed.toMillis() / 1_000.0);
+        summary.put("total", describe(total, errors, rejected, elapsed));
+        summary.put("operations", operations);
+        return summary;
+    }
+
+    void print(final Map<String, Object> summary) {
+        @SuppressWarnings("unchecked")
+        final Map<String, Map<String, Object>> operations = (Map<String, Map<String, Object>>) summary.get("operations");
+        final int width = operations.keySet().stream().mapToInt(String::length).reduce(8, Math::max);
+        System.out.printf("%n%-" + width + "s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+                "op", "req/s", "count", "error%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        operations.forEach((operation, row) -> printRow(operation, width, row));
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> total = (Map<String, Object>) summary.get("total");
+        printRow("total", width, total);
+    }
+
+    Path write(final Path directory, final String name, final Map<String, Object> summary) throws IOException {
+        Files.createDirectories(directory);
+        final Path file = directory.resolve(name + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary);
+        return file;
+    }
+
+    /**
+     * Prints the latency change of each operation present in both summaries, and the change in error rate
+     * in percentage points.
+     */
+    static void compare(final String baselineName, final JsonNode baseline, final JsonNode current) {
+        System.out.printf("%nChange against baseline (%s)%n", baselineName);
+        System.out.printf("%-40s %14s %14s %14s %14s %14s%n", "op", "p50", "p90", "p99", "p99.9", "error%");
+        final Iterator<Map.Entry<String, JsonNode>> operations = current.path("operations").fields();
+        while (operations.hasNext()) {
+            final Map.Entry<String, JsonNode> entry = operations.next();
+            final JsonNode before = baseline.path("operations").path(entry.getKey());
+            if (!before.isMissingNode()) {
+                printDelta(entry.getKey(), before, entry.getValue());
+            }
+        }
+        printDelta("total", baseline.path("total"), current.path("total"));
+    }
+
+    private Outcomes outcomes(final String operation) {
+        return this.outcomes.computeIfAbsent(operation, key -> new Outcomes());
+    }
+
+    private static Map<String, Object> describe(final Histogram latency, final long errors, final long rejected,
+                                                final Duration elapsed) {
+        final long completed = latency.getTotalCount();
+        final long attempted = completed + rejected;
+        final Map<String, Object> description = new LinkedHashMap<>();
+        description.put("completed", completed);
+        description.put("errors", errors);
+        description.put("rejected", rejected);
+        description.put("errorRate", attempted == 0 ? 0.0 : (double) (errors + rejected) / attempted);
+        description.put("throughputPerSecond", completed / Math.max(elapsed.toMillis() / 1_000.0, 0.001));
+        description.put("p50Ms", millis(latency.getValueAtPercentile(50)));
+        description.put("p90Ms", millis(latency.getValueAtPercentile(90)));
+        description.put("p99Ms", millis(latency.getValueAtPercentile(99)));
+        description.put("p999Ms", millis(latency.getValueAtPercentile(99.9)));
+        description.put("maxMs", millis(latency.getMaxValue()));
+        return description;
+    }
+
+    private static void printRow(final String operation, final int width, final Map<String, Object> row) {
+        System.out.printf("%-" + width + "s %9.1f %9d %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, row.get("throughputPerSecond"), row.get("completed"), (double) row.get("errorRate") * 100,
+                row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"));
+    }
+
+    private static void printDelta(final String operation, final JsonNode before, final JsonNode after) {
+        final StringBuilder row = new StringBuilder("%-40s".formatted(operation));
+        for (final String percentile : COMPARED) {
+            final double from = before.path(percentile).asDouble();
+            final double to = after.path(percentile).asDouble();
+            row.append(from > 0 ? " %+13.1f%%".formatted((to - from) / from * 100) : " %14s".formatted("n/a"));
+        }
+        final double errorPoints = (after.path("errorRate").asDouble() - before.path("errorRate").asDouble()) * 100;
+        row.append(" %+11.2f pp".formatted(errorPoints));
+        System.out.println(row);
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Outcomes {
+        private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private void record(final long latencyNanos, final boolean error) {
+            this.latency.recordValue(Math.min(Math.max(latencyNanos, 1), MAX_TRACKABLE_NANOS));
+            if (error) {
+                this.errors.increment();
+            }
+        }
+    }
+}
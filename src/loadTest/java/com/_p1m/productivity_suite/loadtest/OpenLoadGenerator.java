@@ -0,0 +1,80 @@
+package com._p1m.productivity_suite.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load: requests start on a fixed arrival schedule whether or not earlier ones have finished,
+ * the way independent clients behave. A closed loop of N workers would slow down with the server and hide
+ * its saturation point.
+ */
+class OpenLoadGenerator {
+
+    /** One request: its name in the report and the call that performs it, completing with whether it succeeded. */
+    record Request(String operation, Supplier<CompletableFuture<Boolean>> call) {
+    }
+
+    private final double ratePerSecond;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    OpenLoadGenerator(final double ratePerSecond, final Duration duration, final int maxInFlight) {
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Issues requests until the duration has passed, then waits for those still in flight.
+     *
+     * @return the time from the first scheduled request until the last one completed.
+     */
+    Duration run(final Supplier<Request> requests, final LoadReport report) throws InterruptedException {
+        final double intervalNanos = 1_000_000_000.0 / this.ratePerSecond;
+        final long start = System.nanoTime();
+        final long end = start + this.duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            final long intendedStart = start + Math.round(i * intervalNanos);
+            if (intendedStart >= end) {
+                break;
+            }
+            final long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            final Request request = requests.get();
+            if (!this.inFlight.tryAcquire()) {
+                report.rejected(request.operation());
+                continue;
+            }
+            CompletableFuture<Boolean> call;
+            try {
+                call = request.call().get();
+            } catch (final RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            call.whenComplete((ok, error) -> {
+                // Measured from the scheduled start, so a late send caused by a backed-up client counts too.
+                final long latency = System.nanoTime() - intendedStart;
+                if (error == null && Boolean.TRUE.equals(ok)) {
+                    report.success(request.operation(), latency);
+                } else {
+                    report.failure(request.operation(), latency);
+                }
+                this.inFlight.release();
+            });
+        }
+
+        // Holding every permit means nothing is in flight any more.
+        this.inFlight.acquire(this.maxInFlight);
+        this.inFlight.release(this.maxInFlight);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,236 @@
+package com._p1m.productivity_suite.loadtest;
+
+import com._p1m.productivity_suite.config.request.capture.CaptureFormat;
+import com._p1m.productivity_suite.config.request.capture.CaptureRedactor;
+import com._p1m.productivity_suite.config.request.capture.CapturedRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Re-issues traffic recorded by {@code TrafficCaptureFilter} against a running test instance, keeping the recorded
+ * gaps between requests scaled by {@code replay.speed}. Run it with {@code gradle replay}; settings are
+ * {@code replay.*} system properties.
+ *
+ * <p>Redacted credentials are put back from {@code replay.password} (body fields) and {@code replay.token}
+ * (the Authorization header of requests that had one). A request counts as an error when its status differs from
+ * the recorded one. Latency runs from each request's scheduled time. Pass {@code replay.baseline} with the report
+ * from another build's replay of the same log to print the latency change per route.
+ */
+public final class TrafficReplay {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final Set<String> NO_BODY_METHODS = Set.of("GET", "HEAD", "DELETE", "OPTIONS");
+
+    private TrafficReplay() {
+    }
+
+    /** Groups requests by method and path, with numeric path segments collapsed so each route is one operation. */
+    static String operation(final CapturedRequest request) {
+        final int query = request.uri().indexOf('?');
+        final String path = query < 0 ? request.uri() : request.uri().substring(0, query);
+        return request.method() + " " + ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Path log = Path.of(required("replay.log"));
+        final String target = required("replay.target").replaceAll("/+$", "");
+        final double speed = Double.parseDouble(System.getProperty("replay.speed", "1"));
+        final String token = System.getProperty("replay.token");
+        final String password = System.getProperty("replay.password");
+        final int maxInFlight = Integer.getInteger("replay.maxInFlight", 2_000);
+        final String baseline = System.getProperty("replay.baseline");
+        final Path reportDir = Path.of(System.getProperty("replay.reportDir", "build/reports/replay"));
+        if (speed <= 0) {
+            throw new IllegalArgumentException("replay.speed must be positive: " + speed);
+        }
+
+        final List<CapturedRequest> requests = read(log);
+        if (requests.isEmpty()) {
+            System.out.printf("No requests recorded in %s%n", log);
+            return;
+        }
+        final long recordedMicros = requests.get(requests.size() - 1).epochMicros() - requests.get(0).epochMicros();
+        System.out.printf("Replaying %d requests recorded over %.1f s against %s at %sx%n",
+                requests.size(), recordedMicros / 1_000_000.0, target, speed);
+
+        final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        final LoadReport report = new LoadReport();
+        final Duration elapsed = replay(requests, speed, maxInFlight, report,
+                request -> send(client, target, request, token, password));
+
+        final Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("log", log.toAbsolutePath().toString());
+        settings.put("target", target);
+        settings.put("speed", speed);
+        settings.put("requests", requests.size());
+        settings.put("maxInFlight", maxInFlight);
+        settings.put("javaVersion", Runtime.version().toString());
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        final Map<String, Object> summary = report.summary(elapsed, settings);
+        report.print(summary);
+        final Path file = report.write(reportDir,
+                "replay-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")), summary);
+        System.out.printf("%nReport written to %s%n", file);
+
+        if (baseline != null) {
+            final JsonNode before = new ObjectMapper().readTree(Path.of(baseline).toFile());
+            LoadReport.compare(before.path("settings").path("target").asText("?"), before,
+                    new ObjectMapper().valueToTree(summary));
+        }
+    }
+
+    /**
+     * Reads one capture file, or every {@code .bin} file in a directory in name order.
+     *
+     * @return the requests ordered by arrival.
+     */
+    static List<CapturedRequest> read(final Path log) throws IOException {
+        final List<Path> files;
+        if (Files.isDirectory(log)) {
+            try (Stream<Path> listing = Files.list(log)) {
+                files = listing.filter(file -> file.getFileName().toString().endsWith(".bin")).sorted().toList();
+            }
+        } else {
+            files = List.of(log);
+        }
+
+        final List<CapturedRequest> requests = new ArrayList<>();
+        for (final Path file : files) {
+            try (InputStream stream = Files.newInputStream(file);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+                CaptureFormat.readHeader(in);
+                CapturedRequest request;
+                while ((request = CaptureFormat.read(in)) != null) {
+                    requests.add(request);
+                }
+            }
+        }
+        requests.sort(Comparator.comparingLong(CapturedRequest::epochMicros));
+        return requests;
+    }
+
+    /**
+     * Starts each request at its recorded offset from the first one divided by {@code speed}, whether or not
+     * earlier ones have finished, then waits for those still in flight.
+     *
+     * @return the time from the first scheduled request until the last one completed.
+     */
+    static Duration replay(final List<CapturedRequest> requests, final double speed, final int maxInFlight,
+                           final LoadReport report,
+                           final Function<CapturedRequest, CompletableFuture<Integer>> sender)
+            throws InterruptedException {
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final long firstMicros = requests.get(0).epochMicros();
+        final long start = System.nanoTime();
+
+        for (final CapturedRequest request : requests) {
+            final long intendedStart = start + Math.round((request.epochMicros() - firstMicros) * 1_000 / speed);
+            final long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            final String operation = operation(request);
+            if (!inFlight.tryAcquire()) {
+                report.rejected(operation);
+                continue;
+            }
+            CompletableFuture<Integer> call;
+            try {
+                call = sender.apply(request);
+            } catch (final RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            call.whenComplete((status, error) -> {
+                final long latency = System.nanoTime() - intendedStart;
+                if (error == null && status == request.status()) {
+                    report.success(operation, latency);
+                } else {
+                    report.failure(operation, latency);
+                }
+                inFlight.release();
+            });
+        }
+
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static CompletableFuture<Integer> send(final HttpClient client, final String target,
+                                                   final CapturedRequest request, final String token,
+                                                   final String password) {
+        String uri = request.uri();
+        byte[] body = request.body();
+        if (password != null) {
+            uri = uri.replace(URLEncoder.encode(CaptureRedactor.PLACEHOLDER, StandardCharsets.UTF_8),
+                    URLEncoder.encode(password, StandardCharsets.UTF_8));
+            body = new String(body, StandardCharsets.UTF_8)
+                    .replace('"' + CaptureRedactor.PLACEHOLDER + '"', quoted(password))
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(target + uri))
+                .timeout(Duration.ofSeconds(30));
+        if (!request.contentType().isEmpty()) {
+            builder.header("Content-Type", request.contentType());
+        }
+        if (token != null && request.has(CapturedRequest.AUTHENTICATED)) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        final boolean sendBody = body.length > 0 || !NO_BODY_METHODS.contains(request.method());
+        builder.method(request.method(), sendBody
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody());
+        return client.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    private static String quoted(final String value) {
+        try {
+            return new ObjectMapper().writeValueAsString(value);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String required(final String name) {
+        final String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Set " + name + ", e.g. gradle replay -P" + name + "=...");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,39 @@
+package com._p1m.productivity_suite.config.beans;
+
+import com._p1m.productivity_suite.config.response.utils.FieldSetFilters;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Registers binary Jackson encodings next to the default JSON converter.
+ * Clients sending {@code Accept: application/cbor} or {@code Accept: application/x-jackson-smile}
+ * receive the same {@code ApiResponse} envelope in the compact encoding, and request bodies
+ * with those content types are read the same way.
+ *
+ * <p>Both mappers are built from the Boot-managed {@link Jackson2ObjectMapperBuilder}, so they
+ * share every customization applied to the JSON mapper.</p>
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSetFilterCustomizer() {
+        return builder -> builder.filters(FieldSetFilters.defaultFilters());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -1,16 +0,0 @@
-package com._p1m.productivity_suite.config.beans;
-
-import org.springframework.context.annotation.Configuration;
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
-
-@Configuration
-public class ModelMapperConfig {
-
-    @Bean
-    public ModelMapper modelMapper() {
-        final ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setFieldMatchingEnabled(true).setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
-        return modelMapper;
-    }
-}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com._p1m.productivity_suite.config.beans;
+
+import com._p1m.productivity_suite.ProductivitySuiteApplication;
+import com._p1m.productivity_suite.config.utils.EntityMapper;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reachability metadata for the native image that Spring's AOT processing cannot infer on its own.
+ * Entities, repositories, projections in repository signatures, controllers and the logback configuration
+ * are already covered by Spring Boot, Spring Data and Hibernate; Caffeine comes from the GraalVM
+ * metadata repository enabled in build.gradle.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = ProductivitySuiteApplication.class.getPackageName();
+
+        /** jjwt-impl and jjwt-jackson are runtime-only and instantiated by class name from jjwt-api. */
+        private static final List<String> JJWT_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        );
+
+        @Override
+        public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+            JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // ApiResponse carries its payload as Object, so the DTOs behind it are invisible to the controller hints.
+            final Class<?>[] dtoTypes = this.scan(classLoader, new RegexPatternTypeFilter(Pattern.compile(".*\\.dto\\..*")));
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), dtoTypes);
+            for (final Class<?> dtoType : dtoTypes) {
+                // JPQL constructor expressions such as UserExportRow are instantiated reflectively by Hibernate.
+                hints.reflection().registerType(dtoType, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+
+            // DtoUtil resolves each mapper's source and DTO types from its generic interfaces.
+            for (final Class<?> mapperType : this.scan(classLoader, new AssignableTypeFilter(EntityMapper.class))) {
+                hints.reflection().registerType(mapperType);
+            }
+
+            hints.resources().registerPattern("db/*.sql");
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*");
+        }
+
+        private Class<?>[] scan(final ClassLoader classLoader, final TypeFilter filter) {
+            final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(final AnnotatedBeanDefinition beanDefinition) {
+                    // Interfaces (projections) and records count too, unlike component scanning.
+                    return beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter(filter);
+            return scanner.findCandidateComponents(BASE_PACKAGE).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .map(name -> ClassUtils.resolveClassName(name, classLoader))
+                    .toArray(Class<?>[]::new);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com._p1m.productivity_suite.config.beans;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,148 @@
+package com._p1m.productivity_suite.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ *
+ * <p>The routing key is read from the transaction synchronization state, so this data source must
+ * be wrapped in a {@code LazyConnectionDataSourceProxy}: the physical connection is then fetched
+ * on the first statement, after the transaction manager has published the read-only flag.</p>
+ *
+ * <p>Primary connections handed out inside a transaction report their writing statements, and
+ * the session is only made sticky when such a transaction commits.</p>
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private static final Object WRITE_RECORDED = new Object();
+
+    private final Map<String, DataSource> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final double maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile String[] healthyReplicas;
+
+    public ReadWriteRoutingDataSource(final DataSource primary, final Map<String, DataSource> replicas,
+                                      final ReadYourWritesTracker readYourWrites, final double maxLagSeconds) {
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthyReplicas = replicas.keySet().toArray(String[]::new);
+
+        final Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        final String[] healthy = this.healthyReplicas;
+        if (healthy.length == 0 || readYourWrites.mustReadFromPrimary()) {
+            return PRIMARY;
+        }
+        return healthy[Math.floorMod(nextReplica.getAndIncrement(), healthy.length)];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    /**
+     * Probes every replica and keeps only the reachable ones within the lag budget in rotation.
+     * When none qualifies, reads fall back to the primary.
+     */
+    public void refreshReplicaHealth() {
+        final List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_QUERY);
+                 ResultSet resultSet = statement.executeQuery()) {
+                final double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+                if (lagSeconds <= maxLagSeconds) {
+                    healthy.add(name);
+                } else {
+                    log.warn("Replica {} is {}s behind the primary; routing its reads to the primary", name, lagSeconds);
+                }
+            } catch (Exception ex) {
+                log.warn("Replica {} is unavailable; routing its reads to the primary: {}", name, ex.getMessage());
+            }
+        });
+        this.healthyReplicas = healthy.toArray(String[]::new);
+    }
+
+    /**
+     * Closes the replica pools, which are owned by this data source rather than registered as beans.
+     */
+    public void close() throws Exception {
+        for (final DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection trackWrites(final Connection connection) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        return WriteTrackingConnection.wrap(connection, this::registerWrite);
+    }
+
+    private void registerWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_RECORDED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_RECORDED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_RECORDED);
+            }
+        });
+    }
+}
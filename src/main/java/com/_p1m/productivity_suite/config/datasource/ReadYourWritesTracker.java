@@ -0,0 +1,89 @@
+package com._p1m.productivity_suite.config.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which sessions wrote recently, so their reads can stay on the primary until the
+ * replicas have caught up. A session is identified by the authenticated principal and by a
+ * client-supplied session header, since login and registration write before a token exists.
+ * Client addresses are not used: behind a load balancer or NAT many clients share one.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final String sessionHeader;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(final Duration window, final String sessionHeader) {
+        this.windowNanos = window.toNanos();
+        this.sessionHeader = sessionHeader;
+    }
+
+    /**
+     * Records a committed write for the current session.
+     */
+    public void recordWrite() {
+        if (windowNanos <= 0) {
+            return;
+        }
+        final long until = System.nanoTime() + windowNanos;
+        final String principal = currentPrincipal();
+        if (principal != null) {
+            stickyUntil.put(principal, until);
+        }
+        final String session = currentSession();
+        if (session != null) {
+            stickyUntil.put(session, until);
+        }
+    }
+
+    /**
+     * @return {@code true} if the current session wrote within the read-your-writes window.
+     */
+    public boolean mustReadFromPrimary() {
+        if (stickyUntil.isEmpty()) {
+            return false;
+        }
+        return isSticky(currentPrincipal()) || isSticky(currentSession());
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read-your-writes-window:PT5S}")
+    public void evictExpired() {
+        final long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    private boolean isSticky(final String key) {
+        if (key == null) {
+            return false;
+        }
+        final Long until = stickyUntil.get(key);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    private static String currentPrincipal() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? "principal:" + authentication.getName() : null;
+    }
+
+    private String currentSession() {
+        if (sessionHeader == null || sessionHeader.isBlank()) {
+            return null;
+        }
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            final String session = servletAttributes.getRequest().getHeader(sessionHeader);
+            return session != null && !session.isBlank() ? "session:" + session : null;
+        }
+        return null;
+    }
+}
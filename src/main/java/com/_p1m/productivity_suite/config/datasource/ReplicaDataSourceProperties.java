@@ -0,0 +1,41 @@
+package com._p1m.productivity_suite.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings. The primary keeps using {@code spring.datasource.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaDataSourceProperties {
+
+    /** Replicas that serve read-only transactions. Routing is disabled when empty. */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** How long a session keeps reading from the primary after one of its writes commits. Also read by {@code @Scheduled}, so use ISO-8601. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Request header carrying a client-generated session id, so anonymous clients (e.g. during
+     * registration or password reset) also read their own writes. Blank disables it.
+     */
+    private String sessionHeader = "X-Client-Session";
+
+    /** Replicas lagging further behind than this are taken out of rotation. */
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+
+    /** Interval between replica lag and availability probes. Also read by {@code @Scheduled}, so use ISO-8601 (e.g. {@code PT5S}). */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,89 @@
+package com._p1m.productivity_suite.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured data source with a primary/replica router when at least one
+ * replica is configured under {@code app.datasource.replicas}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource", name = "replicas[0].url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(final ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), properties.getSessionHeader());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(final HikariDataSource primaryDataSource,
+                                                                 final ReplicaDataSourceProperties properties,
+                                                                 final DataSourceProperties primaryProperties,
+                                                                 final ReadYourWritesTracker readYourWritesTracker) {
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        final List<ReplicaDataSourceProperties.Replica> configured = properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            final ReplicaDataSourceProperties.Replica replica = configured.get(i);
+            final HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryProperties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryProperties.determinePassword());
+            dataSource.setDriverClassName(primaryProperties.determineDriverClassName());
+            dataSource.setReadOnly(true);
+            // Do not fail startup on a replica outage; the health check routes around it.
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker,
+                properties.getMaxReplicaLag().toMillis() / 1000.0);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthCheck replicaHealthCheck(final ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new ReplicaHealthCheck(readWriteRoutingDataSource);
+    }
+
+    static class ReplicaHealthCheck {
+
+        private final ReadWriteRoutingDataSource routingDataSource;
+
+        ReplicaHealthCheck(final ReadWriteRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${app.datasource.health-check-interval:PT5S}")
+        void check() {
+            routingDataSource.refreshReplicaHealth();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com._p1m.productivity_suite.config.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Wraps a primary connection and reports every statement that may change data, when it is
+ * prepared or, for plain statements, executed. Anything but a {@code SELECT} counts, so a
+ * transaction that only reads on the primary does not make its session sticky.
+ */
+final class WriteTrackingConnection {
+
+    private WriteTrackingConnection() {
+    }
+
+    static Connection wrap(final Connection connection, final Runnable onWrite) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare")) {
+                        reportWrite(args, onWrite);
+                    }
+                    final Object result = invoke(method, connection, args);
+                    return result instanceof Statement statement && method.getName().equals("createStatement")
+                            ? track(statement, onWrite) : result;
+                });
+    }
+
+    static boolean isWrite(final String sql) {
+        return !sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private static Statement track(final Statement statement, final Runnable onWrite) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute") || method.getName().equals("addBatch")) {
+                        reportWrite(args, onWrite);
+                    }
+                    return invoke(method, statement, args);
+                });
+    }
+
+    private static void reportWrite(final Object[] args, final Runnable onWrite) {
+        if (args != null && args.length > 0 && args[0] instanceof String sql && isWrite(sql)) {
+            onWrite.run();
+        }
+    }
+
+    private static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
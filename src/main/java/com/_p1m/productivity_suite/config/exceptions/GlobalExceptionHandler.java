@@ -1,19 +1,24 @@
 package com._p1m.productivity_suite.config.exceptions;
 
 import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.config.response.utils.ErrorBodyTemplate;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.time.Instant;
@@ -29,6 +34,18 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    /** Non-JSON media types an {@link ApiResponse} can be written as, e.g. CBOR and Smile. */
+    private final List<MediaType> binaryMediaTypes;
+
+    public GlobalExceptionHandler(final HttpMessageConverters messageConverters) {
+        this.binaryMediaTypes = messageConverters.getConverters().stream()
+                .filter(converter -> converter.canWrite(ApiResponse.class, null))
+                .flatMap(converter -> converter.getSupportedMediaTypes(ApiResponse.class).stream())
+                .filter(mediaType -> !mediaType.isCompatibleWith(MediaType.APPLICATION_JSON))
+                .distinct()
+                .toList();
+    }
+
     /**
      * Handles IllegalArgumentExceptions, typically thrown when method arguments are invalid or inappropriate.
      *
@@ -136,8 +153,8 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
      * @return a ResponseEntity containing the standardized ApiResponse with an HTTP 401 (Unauthorized) status.
      */
     @ExceptionHandler(UnauthorizedException.class)
-    public ResponseEntity<ApiResponse> handleUnauthorizedException(UnauthorizedException ex, HttpServletRequest request) {
-        return buildErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(), "Unauthorized", request);
+    public ResponseEntity<?> handleUnauthorizedException(UnauthorizedException ex, HttpServletRequest request) {
+        return buildPreSerializedErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(), "Unauthorized", request);
     }
 
     /**
@@ -148,8 +165,8 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
      * @return a ResponseEntity containing the standardized ApiResponse with an HTTP 401 (Unauthorized) status.
      */
     @ExceptionHandler(TokenExpiredException.class)
-    public ResponseEntity<ApiResponse> handleTokenExpiredException(TokenExpiredException ex, HttpServletRequest request) {
-        return buildErrorResponse(HttpStatus.GONE, ex.getMessage(), "Token Expired", request);
+    public ResponseEntity<?> handleTokenExpiredException(TokenExpiredException ex, HttpServletRequest request) {
+        return buildPreSerializedErrorResponse(HttpStatus.GONE, ex.getMessage(), "Token Expired", request);
     }
 
     @ExceptionHandler(ExpiredJwtException.class)
@@ -203,4 +220,58 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, status);
     }
-}
\ No newline at end of file
+
+    /**
+     * Variant of {@link #buildErrorResponse} for high-volume authentication failures.
+     * JSON clients get a pre-serialized body from {@link ErrorBodyTemplate}; clients whose {@code Accept}
+     * header prefers another media type a registered converter can write fall back to the regular ApiResponse.
+     *
+     * @param status  the HTTP status.
+     * @param message a brief error description.
+     * @param details additional details about the error.
+     * @param request the HTTP request causing the error.
+     * @return a ResponseEntity containing the serialized body or the ApiResponse.
+     */
+    private ResponseEntity<?> buildPreSerializedErrorResponse(HttpStatus status, String message, String details, HttpServletRequest request) {
+        if (prefersBinary(request.getHeader(HttpHeaders.ACCEPT))) {
+            return buildErrorResponse(status, message, details, request);
+        }
+
+        final byte[] body = ErrorBodyTemplate.of(status.value(), message, details)
+                .render(request.getMethod(), request.getRequestURI());
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Walks the {@code Accept} header in the order content negotiation would, most preferred first, and tells
+     * whether the first type that can be produced at all is a non-JSON one. A missing or malformed header means JSON.
+     */
+    private boolean prefersBinary(final String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        final List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (final MediaType mediaType : acceptable) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            for (final MediaType binary : this.binaryMediaTypes) {
+                if (mediaType.isCompatibleWith(binary)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
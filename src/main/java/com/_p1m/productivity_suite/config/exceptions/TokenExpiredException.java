@@ -1,5 +1,8 @@
 package com._p1m.productivity_suite.config.exceptions;
 
+/**
+ * Expected token rejection; stackless for the same reason as {@link UnauthorizedException}.
+ */
 public class TokenExpiredException extends RuntimeException {
-    public TokenExpiredException(String message) { super(message); }
+    public TokenExpiredException(String message) { super(message, null, false, false); }
 }
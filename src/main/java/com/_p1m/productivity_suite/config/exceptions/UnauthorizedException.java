@@ -3,9 +3,13 @@ package com._p1m.productivity_suite.config.exceptions;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Expected authentication failure. Thrown on every rejected login or token, so it carries no
+ * stack trace and no suppressed exceptions: filling them in would dominate the cost of a rejection.
+ */
 @ResponseStatus(HttpStatus.UNAUTHORIZED)
 public class UnauthorizedException extends RuntimeException {
     public UnauthorizedException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,87 @@
+package com._p1m.productivity_suite.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that keeps one in N INFO events of selected loggers.
+ * Meant for high-volume success paths; WARN and ERROR events always pass, and DEBUG and TRACE
+ * are left to the logger level so enabling them for a logger shows every event.
+ *
+ * <p>Configured in {@code logback-spring.xml} with one {@code <sample>logger=rate</sample>} element
+ * per logger (or package prefix). The decision is made before the message is formatted, so dropped
+ * events cost one counter increment.</p>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Rule KEEP_ALL = new Rule(1);
+
+    private final Map<String, Integer> rates = new LinkedHashMap<>();
+    private final Map<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a sampling rule.
+     *
+     * @param spec {@code <logger or prefix>=<keep one in N>}, e.g. {@code com.example.AuthController=10}.
+     */
+    public void addSample(final String spec) {
+        final int separator = spec.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("Invalid sample rule '" + spec + "', expected <logger>=<rate>");
+            return;
+        }
+        try {
+            rates.put(spec.substring(0, separator).trim(), Math.max(1, Integer.parseInt(spec.substring(separator + 1).trim())));
+        } catch (NumberFormatException ex) {
+            addError("Invalid sample rate in '" + spec + "'");
+        }
+    }
+
+    @Override
+    public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                              final Object[] params, final Throwable t) {
+        if (level == null || level.levelInt != Level.INFO_INT || !isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        // Disabled events must not advance the counter. Logger.isEnabledFor would re-enter this filter.
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        final Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::resolve);
+        return rule.keep() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Rule resolve(final String loggerName) {
+        String bestMatch = null;
+        for (final String name : rates.keySet()) {
+            final boolean matches = loggerName.equals(name)
+                    || (loggerName.startsWith(name) && loggerName.charAt(name.length()) == '.');
+            if (matches && (bestMatch == null || name.length() > bestMatch.length())) {
+                bestMatch = name;
+            }
+        }
+        return bestMatch == null ? KEEP_ALL : new Rule(rates.get(bestMatch));
+    }
+
+    private static final class Rule {
+        private final int rate;
+        private final AtomicLong counter = new AtomicLong();
+
+        private Rule(final int rate) {
+            this.rate = rate;
+        }
+
+        private boolean keep() {
+            return rate == 1 || counter.getAndIncrement() % rate == 0;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com._p1m.productivity_suite.config.request;
 
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 
@@ -8,6 +9,7 @@ import java.time.Instant;
  * Utility class for handling HTTP request-related operations.
  * Provides common methods to extract and validate request metadata.
  */
+@Slf4j
 public final class RequestUtils {
 
     private static final String REQUEST_START_TIME_HEADER = "X-Request-Start-Time";
@@ -27,25 +29,16 @@ public final class RequestUtils {
         String headerValue = request.getHeader(REQUEST_START_TIME_HEADER);
 
         if (headerValue == null) {
-            logFallback("Request start time header is missing. Using current time.");
+            // Most clients never send the header, so this is the normal path, not a warning.
+            log.debug("Request start time header is missing. Using current time.");
             return Instant.now().getEpochSecond();
         }
 
         try {
             return Double.parseDouble(headerValue);
         } catch (NumberFormatException ex) {
-            logFallback("Invalid format for request start time header: " + headerValue);
+            log.warn("Invalid format for request start time header: {}", headerValue);
             return Instant.now().getEpochSecond();
         }
     }
-
-    /**
-     * Logs a warning message for fallback scenarios.
-     * Can be integrated with a logging framework like SLF4J or Logback.
-     *
-     * @param message the warning message to log.
-     */
-    private static void logFallback(String message) {
-        System.err.println(message); // Later Integrate with SLF4J
-    }
 }
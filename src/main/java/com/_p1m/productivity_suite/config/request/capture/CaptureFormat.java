@@ -0,0 +1,91 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Binary layout of a capture file: a magic header, then length-prefixed records appended in arrival order.
+ * A record cut short by a crash is detected by its length prefix and ends the file.
+ *
+ * <pre>
+ * file   := MAGIC record*
+ * record := int length, long epochMicros, utf method, utf uri, utf contentType,
+ *           short status, int durationMicros, byte flags, int bodyLength, byte[bodyLength] body
+ * </pre>
+ */
+public final class CaptureFormat {
+
+    static final byte[] MAGIC = {'P', 'S', 'C', 'A', 'P', 0, 0, 1};
+
+    private CaptureFormat() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void writeHeader(final DataOutputStream out) throws IOException {
+        out.write(MAGIC);
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return the number of bytes written.
+     */
+    public static int write(final DataOutputStream out, final CapturedRequest request) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + request.body().length);
+        final DataOutputStream record = new DataOutputStream(buffer);
+        record.writeLong(request.epochMicros());
+        record.writeUTF(request.method());
+        record.writeUTF(request.uri());
+        record.writeUTF(request.contentType());
+        record.writeShort(request.status());
+        record.writeInt(request.durationMicros());
+        record.writeByte(request.flags());
+        record.writeInt(request.body().length);
+        record.write(request.body());
+        record.flush();
+
+        out.writeInt(buffer.size());
+        buffer.writeTo(out);
+        return Integer.BYTES + buffer.size();
+    }
+
+    public static void readHeader(final DataInputStream in) throws IOException {
+        final byte[] header = new byte[MAGIC.length];
+        in.readFully(header);
+        if (!Arrays.equals(header, MAGIC)) {
+            throw new IOException("Not a traffic capture file");
+        }
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record, or {@code null} at the end of the file or at a truncated final record.
+     */
+    public static CapturedRequest read(final DataInputStream in) throws IOException {
+        final byte[] record;
+        try {
+            record = new byte[in.readInt()];
+            in.readFully(record);
+        } catch (final EOFException e) {
+            return null;
+        }
+
+        final DataInputStream fields = new DataInputStream(new ByteArrayInputStream(record));
+        final long epochMicros = fields.readLong();
+        final String method = fields.readUTF();
+        final String uri = fields.readUTF();
+        final String contentType = fields.readUTF();
+        final int status = fields.readShort();
+        final int durationMicros = fields.readInt();
+        final int flags = fields.readByte();
+        final byte[] body = new byte[fields.readInt()];
+        fields.readFully(body);
+        return new CapturedRequest(epochMicros, method, uri, contentType, status, durationMicros, flags, body);
+    }
+}
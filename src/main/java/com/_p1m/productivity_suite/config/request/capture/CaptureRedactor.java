@@ -0,0 +1,82 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Removes credentials before a request is recorded. JSON values and query parameters whose names look like a
+ * password, token, secret or OTP are replaced with {@link #PLACEHOLDER}; the replay tool substitutes its own
+ * credentials for it. A body that is not valid JSON cannot be checked, so it is not recorded at all.
+ */
+public final class CaptureRedactor {
+
+    public static final String PLACEHOLDER = "[REDACTED]";
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final String ENCODED_PLACEHOLDER = URLEncoder.encode(PLACEHOLDER, StandardCharsets.UTF_8);
+
+    private CaptureRedactor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    static boolean isSensitive(final String name) {
+        final String lower = name.toLowerCase(Locale.ROOT);
+        return lower.contains("password") || lower.contains("token") || lower.contains("secret")
+                || lower.endsWith("otp");
+    }
+
+    /**
+     * @return the body with sensitive values replaced, or {@code null} when it is not valid JSON.
+     */
+    public static byte[] redactJson(final byte[] body) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        try (JsonParser parser = JSON.createParser(body);
+             JsonGenerator generator = JSON.createGenerator(out)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && isSensitive(parser.currentName())) {
+                    generator.writeFieldName(parser.currentName());
+                    parser.nextToken();
+                    parser.skipChildren();
+                    generator.writeString(PLACEHOLDER);
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return the query string with sensitive parameter values replaced, or {@code null} for {@code null}.
+     */
+    public static String redactQuery(final String query) {
+        if (query == null || query.isEmpty()) {
+            return query;
+        }
+        final StringBuilder redacted = new StringBuilder(query.length());
+        for (final String parameter : query.split("&")) {
+            if (!redacted.isEmpty()) {
+                redacted.append('&');
+            }
+            final int equals = parameter.indexOf('=');
+            final String name = equals < 0 ? parameter : parameter.substring(0, equals);
+            if (equals >= 0 && isSensitive(name)) {
+                redacted.append(name).append('=').append(ENCODED_PLACEHOLDER);
+            } else {
+                redacted.append(parameter);
+            }
+        }
+        return redacted.toString();
+    }
+}
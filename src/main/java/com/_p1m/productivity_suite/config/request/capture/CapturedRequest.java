@@ -0,0 +1,30 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+/**
+ * One recorded request. The body is already redacted; see {@link CaptureRedactor}.
+ *
+ * @param epochMicros    when the request arrived, in microseconds since the epoch.
+ * @param method         the HTTP method.
+ * @param uri            the request URI with its redacted query string.
+ * @param contentType    the request content type, or an empty string.
+ * @param status         the response status.
+ * @param durationMicros time spent in the filter chain.
+ * @param flags          {@link #AUTHENTICATED}, {@link #BODY_TRUNCATED} and {@link #BODY_OMITTED}.
+ * @param body           the redacted body, possibly empty.
+ */
+public record CapturedRequest(long epochMicros, String method, String uri, String contentType, int status,
+                              int durationMicros, int flags, byte[] body) {
+
+    /** The request carried an Authorization header; the token itself is never recorded. */
+    public static final int AUTHENTICATED = 1;
+
+    /** The body was longer than the capture limit and was left out. */
+    public static final int BODY_TRUNCATED = 1 << 1;
+
+    /** The body was not JSON, so it could not be redacted and was left out. */
+    public static final int BODY_OMITTED = 1 << 2;
+
+    public boolean has(final int flag) {
+        return (this.flags & flag) != 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Records each request for later replay: arrival time, method, URI, content type, status, duration and the
+ * redacted JSON body. Runs ahead of Spring Security so rejected requests are captured too, and only notes whether
+ * an Authorization header was present. Only the part of the body the application read is available; bodies over
+ * {@code app.traffic-capture.max-body-bytes} are left out. Actuator requests are not captured.
+ *
+ * <p>Enable with {@code app.traffic-capture.enabled=true}; off by default. The filter is registered either way and
+ * the property is checked at startup rather than by a bean condition, so an ahead-of-time processed build can
+ * still turn capture on.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final TrafficCaptureWriter writer;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+
+    public TrafficCaptureFilter(final TrafficCaptureWriter writer, final TrafficCaptureProperties properties) {
+        this.writer = writer;
+        this.enabled = properties.isEnabled();
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NotNull final HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(@NotNull final HttpServletRequest request, @NotNull final HttpServletResponse response,
+                                    @NotNull final FilterChain filterChain) throws ServletException, IOException {
+        final long epochMicros = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        final long start = System.nanoTime();
+        final ContentCachingRequestWrapper wrapped = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        try {
+            filterChain.doFilter(wrapped, response);
+        } finally {
+            final int durationMicros = (int) Math.min((System.nanoTime() - start) / 1_000, Integer.MAX_VALUE);
+            writer.record(capture(wrapped, response.getStatus(), epochMicros, durationMicros));
+        }
+    }
+
+    private CapturedRequest capture(final ContentCachingRequestWrapper request, final int status,
+                                    final long epochMicros, final int durationMicros) {
+        int flags = request.getHeader(HttpHeaders.AUTHORIZATION) != null ? CapturedRequest.AUTHENTICATED : 0;
+        byte[] body = request.getContentAsByteArray();
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            flags |= CapturedRequest.BODY_TRUNCATED;
+            body = NO_BODY;
+        } else if (body.length > 0) {
+            final byte[] redacted = isJson(request.getContentType()) ? CaptureRedactor.redactJson(body) : null;
+            if (redacted == null) {
+                flags |= CapturedRequest.BODY_OMITTED;
+                body = NO_BODY;
+            } else {
+                body = redacted;
+            }
+        }
+
+        final String query = CaptureRedactor.redactQuery(request.getQueryString());
+        final String uri = query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query;
+        final String contentType = request.getContentType() == null ? "" : request.getContentType();
+        return new CapturedRequest(epochMicros, request.getMethod(), uri, contentType, status, durationMicros, flags, body);
+    }
+
+    private static boolean isJson(final String contentType) {
+        try {
+            return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.traffic-capture")
+public class TrafficCaptureProperties {
+
+    /** Records every request to the capture log. Off unless reproducing an incident. */
+    private boolean enabled = false;
+
+    /** Directory the capture files are appended to; one file per process start, rotated by size. */
+    private String directory = "captures";
+
+    /** Request bodies longer than this are recorded truncated. */
+    private int maxBodyBytes = 16 * 1024;
+
+    /** Requests held in memory between writes; must be a power of two. Further requests are not recorded. */
+    private int bufferCapacity = 8_192;
+
+    /** A new file is started once the current one reaches this size. */
+    private long maxFileBytes = 256L * 1024 * 1024;
+
+    /** How often buffered requests are written. Also read by {@code @Scheduled}, so use ISO-8601. */
+    private Duration flushInterval = Duration.ofMillis(200);
+}
@@ -0,0 +1,153 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+import com._p1m.productivity_suite.config.utils.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends captured requests to the capture file. Request threads only insert into a ring buffer; the scheduler
+ * thread drains it, so a slow disk cannot stall requests. When the buffer is full the request is not recorded
+ * and is counted in {@code traffic.capture.dropped}. Files are started per process and rotated by size, and only
+ * once a request is recorded, so with capture disabled no file is created.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TrafficCaptureProperties.class)
+public class TrafficCaptureWriter implements SmartLifecycle {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final MpscRingBuffer<CapturedRequest> buffer;
+    private final Counter dropped;
+    private final Counter written;
+    private final Path directory;
+    private final long maxFileBytes;
+
+    // A lock rather than synchronized: a virtual thread must not hold a monitor across file I/O.
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private DataOutputStream out;
+    private long fileBytes;
+    private int fileIndex;
+    private volatile boolean running;
+
+    public TrafficCaptureWriter(final TrafficCaptureProperties properties, final MeterRegistry meterRegistry) {
+        this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+        this.directory = Path.of(properties.getDirectory());
+        this.maxFileBytes = properties.getMaxFileBytes();
+        this.dropped = Counter.builder("traffic.capture.dropped")
+                .description("Requests not captured because the buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("traffic.capture.written")
+                .description("Requests written to the capture log")
+                .register(meterRegistry);
+    }
+
+    public void record(final CapturedRequest request) {
+        if (!buffer.offer(request)) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.traffic-capture.flush-interval:PT0.2S}")
+    public void drain() {
+        drainLock.lock();
+        try {
+            final int drained = buffer.drain(this::append, Integer.MAX_VALUE);
+            if (drained > 0 && out != null) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            log.warn("Could not flush the traffic capture file", e);
+            close();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drain();
+        drainLock.lock();
+        try {
+            close();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server's graceful shutdown, so requests still in flight are captured
+     * before the file is closed.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    private void append(final CapturedRequest request) {
+        try {
+            if (out == null || fileBytes >= maxFileBytes) {
+                open();
+            }
+            fileBytes += CaptureFormat.write(out, request);
+            written.increment();
+        } catch (IOException e) {
+            dropped.increment();
+            log.warn("Could not write to the traffic capture file", e);
+            close();
+        }
+    }
+
+    private void open() throws IOException {
+        close();
+        Files.createDirectories(directory);
+        final Path file = directory.resolve("capture-%s-%d-%03d.bin".formatted(
+                LocalDateTime.now().format(FILE_TIMESTAMP), ProcessHandle.current().pid(), fileIndex++));
+        final OutputStream stream = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.APPEND);
+        out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024));
+        CaptureFormat.writeHeader(out);
+        fileBytes = CaptureFormat.MAGIC.length;
+        log.info("Capturing traffic to {}", file.toAbsolutePath());
+    }
+
+    private void close() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("Could not close the traffic capture file", e);
+        }
+        out = null;
+    }
+}
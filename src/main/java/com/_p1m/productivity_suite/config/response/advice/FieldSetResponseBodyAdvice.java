@@ -0,0 +1,31 @@
+package com._p1m.productivity_suite.config.response.advice;
+
+import com._p1m.productivity_suite.config.response.utils.FieldSetFilters;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Applies the field set bound by {@code ResponseUtils.buildResponse} to the Jackson writer,
+ * whichever encoding (JSON, CBOR or Smile) was negotiated.
+ */
+@RestControllerAdvice
+public class FieldSetResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(@NotNull MappingJacksonValue bodyContainer, @NotNull MediaType contentType,
+                                           @NotNull MethodParameter returnType, @NotNull ServerHttpRequest request,
+                                           @NotNull ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(FieldSetFilters.REQUEST_ATTRIBUTE) instanceof FilterProvider filters) {
+            bodyContainer.setFilters(filters);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com._p1m.productivity_suite.config.response.utils;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized JSON body of an error {@code ApiResponse}.
+ * The static parts (code, message, details) are encoded once per distinct error; rendering only
+ * patches in the request method, endpoint and duration. The field order matches what Jackson
+ * writes for {@code ApiResponse}, so clients see the same document either way.
+ */
+public final class ErrorBodyTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES = 128;
+    private static final Map<String, ErrorBodyTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+    private static final byte[] ENDPOINT_SEPARATOR = bytes("\",\"endpoint\":\"");
+    private static final byte[] END = bytes("}");
+
+    private static volatile DurationText currentSecond = new DurationText(-1, new byte[0]);
+
+    private final byte[] head;
+    private final byte[] tail;
+
+    private ErrorBodyTemplate(final int code, final String message, final String details) {
+        this.head = bytes("{\"success\":0,\"code\":" + code + ",\"meta\":{\"method\":\"");
+        this.tail = bytes("\"},\"data\":" + quote(details) + ",\"message\":" + quote(message) + ",\"duration\":");
+    }
+
+    /**
+     * Returns the cached template for an error response.
+     *
+     * @param code    the HTTP status code.
+     * @param message the error message.
+     * @param details the error details placed in {@code data}.
+     * @return the shared template.
+     */
+    public static ErrorBodyTemplate of(final int code, final String message, final String details) {
+        final String key = code + "\u0000" + message + "\u0000" + details;
+        final ErrorBodyTemplate cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ErrorBodyTemplate template = new ErrorBodyTemplate(code, message, details);
+        // Messages can carry request data; stop caching past a bound rather than grow without limit.
+        if (CACHE.size() < MAX_CACHED_TEMPLATES) {
+            final ErrorBodyTemplate previous = CACHE.putIfAbsent(key, template);
+            return previous != null ? previous : template;
+        }
+        return template;
+    }
+
+    /**
+     * Renders the body for the current request, stamping the current epoch second as duration.
+     *
+     * @param method   the HTTP method.
+     * @param endpoint the request URI.
+     * @return the UTF-8 encoded JSON body.
+     */
+    public byte[] render(final String method, final String endpoint) {
+        final byte[] methodBytes = ENCODER.quoteAsUTF8(method);
+        final byte[] endpointBytes = ENCODER.quoteAsUTF8(endpoint);
+        final byte[] duration = durationText();
+
+        final byte[] body = new byte[head.length + methodBytes.length + ENDPOINT_SEPARATOR.length
+                + endpointBytes.length + tail.length + duration.length + END.length];
+        int offset = append(body, 0, head);
+        offset = append(body, offset, methodBytes);
+        offset = append(body, offset, ENDPOINT_SEPARATOR);
+        offset = append(body, offset, endpointBytes);
+        offset = append(body, offset, tail);
+        offset = append(body, offset, duration);
+        append(body, offset, END);
+        return body;
+    }
+
+    private static byte[] durationText() {
+        final long epochSecond = Instant.now().getEpochSecond();
+        DurationText cached = currentSecond;
+        if (cached.epochSecond != epochSecond) {
+            // Same textual form Jackson uses for ApiResponse.duration (a double).
+            cached = new DurationText(epochSecond, bytes(Double.toString((double) epochSecond)));
+            currentSecond = cached;
+        }
+        return cached.text;
+    }
+
+    private static int append(final byte[] target, final int offset, final byte[] source) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    private static String quote(final String value) {
+        return value == null ? "null" : "\"" + new String(ENCODER.quoteAsString(value)) + "\"";
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record DurationText(long epochSecond, byte[] text) {
+    }
+}
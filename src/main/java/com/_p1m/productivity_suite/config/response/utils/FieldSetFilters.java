@@ -0,0 +1,101 @@
+package com._p1m.productivity_suite.config.response.utils;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sparse fieldset support for response DTOs.
+ * DTOs annotated with {@code @JsonFilter(FieldSetFilters.FILTER_ID)} are serialized with only the
+ * properties listed in the {@code fields} query parameter, e.g. {@code ?fields=id,name}.
+ *
+ * <p>Each distinct field set is normalized and compiled once into a {@link FilterProvider}; the
+ * serializers themselves stay in the shared ObjectMapper cache, so a filtered request costs no
+ * more reflection than an unfiltered one.</p>
+ */
+public final class FieldSetFilters {
+
+    public static final String FILTER_ID = "fieldSet";
+    public static final String FIELDS_PARAMETER = "fields";
+    public static final String REQUEST_ATTRIBUTE = FieldSetFilters.class.getName() + ".FILTERS";
+
+    private static final int MAX_CACHED_FIELD_SETS = 256;
+    private static final FilterProvider DEFAULT_FILTERS = new SimpleFilterProvider().setFailOnUnknownId(false);
+    private static final Map<String, FilterProvider> CACHE = new ConcurrentHashMap<>();
+
+    private FieldSetFilters() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Filter provider to install on ObjectMappers by default, so filtered DTOs serialize in full
+     * when no field set was requested.
+     *
+     * @return a provider that ignores the field set filter.
+     */
+    public static FilterProvider defaultFilters() {
+        return DEFAULT_FILTERS;
+    }
+
+    /**
+     * Resolves the {@code fields} parameter of the request and, when present, stores the compiled
+     * filter as a request attribute for the response body advice to pick up.
+     *
+     * @param request the current HTTP request.
+     */
+    public static void bind(final HttpServletRequest request) {
+        final FilterProvider filters = resolve(request.getParameter(FIELDS_PARAMETER));
+        if (filters != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, filters);
+        }
+    }
+
+    /**
+     * Returns the compiled filter for a comma-separated field list.
+     *
+     * @param fields the raw field list, e.g. {@code "name, id"}.
+     * @return the cached filter provider, or {@code null} when no field is listed.
+     */
+    public static FilterProvider resolve(final String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        final Set<String> names = new TreeSet<>();
+        for (final String field : fields.split(",")) {
+            final String name = field.trim();
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        if (names.isEmpty()) {
+            return null;
+        }
+
+        final String key = String.join(",", names);
+        final FilterProvider cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final FilterProvider compiled = compile(names);
+        // Field lists come from clients; stop caching past a bound rather than grow without limit.
+        if (CACHE.size() < MAX_CACHED_FIELD_SETS) {
+            final FilterProvider previous = CACHE.putIfAbsent(key, compiled);
+            return previous != null ? previous : compiled;
+        }
+        return compiled;
+    }
+
+    private static FilterProvider compile(final Set<String> names) {
+        return new SimpleFilterProvider()
+                .setFailOnUnknownId(false)
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+}
@@ -21,6 +21,8 @@ public class ResponseUtils {
             response.getMeta().put("endpoint", endpoint);
         }
 
+        FieldSetFilters.bind(request);
+
         response.setDuration(Instant.now().getEpochSecond() - requestTime);
         return new ResponseEntity<>(response, status);
     }
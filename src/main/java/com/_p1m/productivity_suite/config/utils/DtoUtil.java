@@ -1,58 +1,102 @@
 package com._p1m.productivity_suite.config.utils;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Utility class for DTO mapping operations.
+ * Mapping is delegated to the generated {@link EntityMapper} registered for the source and DTO types,
+ * so no reflective type-map resolution happens per call. The registry is built once from the mapper beans
+ * and never changes afterwards.
  */
 @Service
 public class DtoUtil {
 
+    private final Map<Class<?>, Map<Class<?>, EntityMapper<?, ?>>> mappers;
+
+    /**
+     * Registers each mapper under the source and DTO types declared by its {@link EntityMapper} generics.
+     *
+     * @param mappers the generated mappers
+     */
+    public DtoUtil(final List<EntityMapper<?, ?>> mappers) {
+        final Map<Class<?>, Map<Class<?>, EntityMapper<?, ?>>> byDto = new HashMap<>();
+        for (final EntityMapper<?, ?> mapper : mappers) {
+            final ResolvableType type = ResolvableType.forClass(EntityMapper.class, mapper.getClass());
+            final Class<?> sourceClass = type.resolveGeneric(0);
+            final Class<?> dtoClass = type.resolveGeneric(1);
+            if (sourceClass == null || dtoClass == null) {
+                throw new IllegalArgumentException("Cannot resolve mapped types of " + mapper.getClass().getName());
+            }
+            byDto.computeIfAbsent(dtoClass, key -> new HashMap<>()).put(sourceClass, mapper);
+        }
+        final Map<Class<?>, Map<Class<?>, EntityMapper<?, ?>>> registry = new HashMap<>();
+        byDto.forEach((dtoClass, bySource) -> registry.put(dtoClass, Map.copyOf(bySource)));
+        this.mappers = Map.copyOf(registry);
+    }
+
     /**
-     * Maps a list of entities to a list of DTOs using ModelMapper.
+     * Maps a list of entities to a list of DTOs.
      *
      * Example Usage:
      * <pre>
      * {@code
      * List<User> users = userRepository.findAll();
-     * List<UserDto> userDtos = DtoUtil.mapList(users, UserDto.class, modelMapper);
+     * List<UserDto> userDtos = dtoUtil.mapList(users, UserDto.class);
      * </pre>
      *
      * @param entityList  the list of entities to be mapped
      * @param dtoClass    the class of the DTO
-     * @param modelMapper the ModelMapper instance
      * @param <E>         the type of the entity
      * @param <D>         the type of the DTO
      * @return the list of mapped DTOs
      */
-    public static <E, D> List<D> mapList(final List<E> entityList, final Class<D> dtoClass, final ModelMapper modelMapper) {
-        return entityList.stream()
-                .map(entity -> modelMapper.map(entity, dtoClass))
-                .collect(Collectors.toList());
+    public <E, D> List<D> mapList(final List<E> entityList, final Class<D> dtoClass) {
+        final List<D> dtos = new ArrayList<>(entityList.size());
+        for (final E entity : entityList) {
+            dtos.add(map(entity, dtoClass));
+        }
+        return dtos;
     }
 
     /**
-     * Maps an entity to a DTO using ModelMapper.
+     * Maps an entity to a DTO.
      *
      * Example Usage:
      * <pre>
      * {@code
      * User user = userRepository.findById(1L).orElseThrow(() -> new EntityNotFoundException("User not found"));
-     * UserDto userDto = DtoUtil.map(user, UserDto.class, modelMapper);
+     * UserDto userDto = dtoUtil.map(user, UserDto.class);
      * </pre>
      *
      * @param source            the source entity to be mapped
      * @param destinationClass the class of the destination DTO
-     * @param modelMapper      the ModelMapper instance
      * @param <E>               the type of the source entity
      * @param <D>               the type of the destination DTO
      * @return the mapped DTO
      */
-    public static <E, D> D map(final E source, final Class<D> destinationClass, final ModelMapper modelMapper) {
-        return modelMapper.map(source, destinationClass);
+    @SuppressWarnings("unchecked")
+    public <E, D> D map(final E source, final Class<D> destinationClass) {
+        return ((EntityMapper<E, D>) findMapper(source.getClass(), destinationClass)).toDto(source);
+    }
+
+    private EntityMapper<?, ?> findMapper(final Class<?> sourceClass, final Class<?> destinationClass) {
+        final Map<Class<?>, EntityMapper<?, ?>> bySource = this.mappers.get(destinationClass);
+        if (bySource != null) {
+            // Walk up the hierarchy so Hibernate proxies resolve to the entity's mapper.
+            for (Class<?> type = sourceClass; type != null; type = type.getSuperclass()) {
+                final EntityMapper<?, ?> mapper = bySource.get(type);
+                if (mapper != null) {
+                    return mapper;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No mapper registered from " + sourceClass.getName()
+                + " to " + destinationClass.getName());
     }
-}
\ No newline at end of file
+}
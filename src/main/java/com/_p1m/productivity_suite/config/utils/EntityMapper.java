@@ -0,0 +1,14 @@
+package com._p1m.productivity_suite.config.utils;
+
+/**
+ * Compile-time generated mapping from an entity (or projection) to a DTO.
+ * Implementations are MapStruct mappers declared with the Spring component model; every mapper
+ * bean is registered with {@link DtoUtil} at startup.
+ *
+ * @param <E> the source type
+ * @param <D> the DTO type
+ */
+public interface EntityMapper<E, D> {
+
+    D toDto(E source);
+}
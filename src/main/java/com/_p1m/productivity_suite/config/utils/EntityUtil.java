@@ -5,6 +5,7 @@ import com._p1m.productivity_suite.config.exceptions.EntityNotFoundException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -62,6 +63,34 @@ public class EntityUtil {
         }
     }
 
+    /**
+     * Saves several entities in one call. With a pooled sequence id generator and
+     * {@code hibernate.jdbc.batch_size} set, the inserts are sent as JDBC batches at flush time
+     * instead of one round trip per row.
+     *
+     * Example Usage
+     * <pre>
+     * {@code
+     * List<User> savedUsers = EntityUtil.saveAllEntities(userRepository, users, "User");
+     * }
+     * </pre>
+     *
+     * @param repository the repository for the entities
+     * @param entities   the entities to be saved
+     * @param entityName the name of the entity
+     * @param <T>        the type of the entities
+     * @return the saved entities
+     */
+    public static <T> List<T> saveAllEntities(JpaRepository<T, Long> repository, Collection<T> entities, String entityName) {
+        List<T> savedEntities = repository.saveAll(entities);
+        for (T savedEntity : savedEntities) {
+            if (savedEntity instanceof Identifiable && ((Identifiable) savedEntity).getId() == null) {
+                throw new EntityCreationException("Failed to create the " + entityName);
+            }
+        }
+        return savedEntities;
+    }
+
     /**
      * Retrieves all entities from the repository.
      *
@@ -100,12 +129,39 @@ public class EntityUtil {
      * @param <T>        the type of the entity
      */
     public static <T> void deleteEntity(JpaRepository<T, Long> repository, Long id, String entityName) {
+        if (repository instanceof BulkDeletable bulkDeletable) {
+            if (bulkDeletable.deleteByIds(List.of(id)) == 0) {
+                throw new EntityNotFoundException(entityName + " not found");
+            }
+            return;
+        }
         if (!repository.existsById(id)) {
             throw new EntityNotFoundException(entityName + " not found");
         }
         repository.deleteById(id);
     }
 
+    /**
+     * Deletes several entities by ID with a single statement.
+     *
+     * Example Usage:
+     * <pre>
+     * {@code
+     * int deleted = EntityUtil.deleteEntities(userRepository, List.of(1L, 2L, 3L));
+     * }
+     * </pre>
+     *
+     * @param repository the repository for the entities
+     * @param ids        the IDs of the entities to delete
+     * @return the number of entities deleted; IDs that do not exist are ignored
+     */
+    public static int deleteEntities(BulkDeletable repository, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return repository.deleteByIds(ids);
+    }
+
     /**
      * Retrieves an entity by its ID from the repository and throws an exception if not found.
      *
@@ -135,4 +191,14 @@ public class EntityUtil {
     public interface Identifiable {
         Long getId();
     }
+
+    /**
+     * Interface for repositories that can delete many entities in one statement.
+     */
+    public interface BulkDeletable {
+        /**
+         * @return the number of entities deleted.
+         */
+        int deleteByIds(Collection<Long> ids);
+    }
 }
\ No newline at end of file
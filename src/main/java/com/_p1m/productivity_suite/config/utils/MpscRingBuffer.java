@@ -0,0 +1,100 @@
+package com._p1m.productivity_suite.config.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free multi-producer single-consumer ring buffer.
+ *
+ * <p>Each slot carries a sequence number telling producers and the consumer whose turn it is
+ * (D. Vyukov's bounded queue). Producers claim a slot with one CAS and never block: when the
+ * buffer is full, {@link #offer} returns {@code false}. Only one thread may call {@link #drain}
+ * at a time.</p>
+ *
+ * @param <E> the element type
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private volatile long consumerPosition;
+
+    /**
+     * @param capacity the number of slots; must be a power of two.
+     */
+    public MpscRingBuffer(final int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element if there is room.
+     *
+     * @return {@code false} if the buffer is full.
+     */
+    public boolean offer(final E element) {
+        long position = producerPosition.get();
+        while (true) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Hands up to {@code limit} elements to {@code consumer}, oldest first.
+     *
+     * @return the number of elements drained.
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(final Consumer<? super E> consumer, final int limit) {
+        long position = consumerPosition;
+        int drained = 0;
+        while (drained < limit) {
+            final int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+            final E element = (E) elements[index];
+            elements[index] = null;
+            sequences.setRelease(index, position + mask + 1);
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+        consumerPosition = position;
+        return drained;
+    }
+
+    /**
+     * @return an estimate of the number of buffered elements.
+     */
+    public int size() {
+        return (int) Math.max(0, producerPosition.get() - consumerPosition);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
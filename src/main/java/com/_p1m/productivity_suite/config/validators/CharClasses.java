@@ -0,0 +1,71 @@
+package com._p1m.productivity_suite.config.validators;
+
+/**
+ * Precompiled ASCII character-class table shared by the field validators.
+ * Lets each validator classify a value in a single pass over its characters instead of
+ * running one regular expression (or lookahead) per rule.
+ */
+public final class CharClasses {
+
+    public static final int LOWER = 1;
+    public static final int UPPER = 1 << 1;
+    public static final int DIGIT = 1 << 2;
+    /** Special characters accepted by the password policy: {@code @$!%*?&}. */
+    public static final int PASSWORD_SPECIAL = 1 << 3;
+    /** Characters {@code .} does not match in a regular expression. */
+    public static final int LINE_TERMINATOR = 1 << 4;
+
+    private static final char NEXT_LINE = 0x0085;
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+    private static final byte[] TABLE = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            TABLE[c] = LOWER;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            TABLE[c] = UPPER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            TABLE[c] = DIGIT;
+        }
+        for (final char c : "@$!%*?&".toCharArray()) {
+            TABLE[c] = PASSWORD_SPECIAL;
+        }
+        TABLE['\n'] = LINE_TERMINATOR;
+        TABLE['\r'] = LINE_TERMINATOR;
+    }
+
+    private CharClasses() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the class bits of a character.
+     *
+     * @param c the character to classify.
+     * @return the combination of class flags, or {@code 0} for unclassified characters.
+     */
+    public static int of(final char c) {
+        if (c < TABLE.length) {
+            return TABLE[c];
+        }
+        return c == NEXT_LINE || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR ? LINE_TERMINATOR : 0;
+    }
+
+    /**
+     * Same result as {@code value.trim().isEmpty()} without allocating the trimmed copy.
+     *
+     * @param value the value to inspect, never {@code null}.
+     * @return {@code true} if the value only contains characters {@code trim()} would remove.
+     */
+    public static boolean isBlank(final String value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
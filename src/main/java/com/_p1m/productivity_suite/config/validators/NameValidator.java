@@ -8,7 +8,7 @@ public class NameValidator implements ConstraintValidator<ValidName, String> {
 
     @Override
     public boolean isValid(final String name, final ConstraintValidatorContext context) {
-        if (name == null || name.trim().isEmpty()) {
+        if (name == null || CharClasses.isBlank(name)) {
             return buildViolation(context, "Name is required.");
         }
 
@@ -6,19 +6,33 @@ import jakarta.validation.ConstraintValidatorContext;
 
 public class OtpValidator implements ConstraintValidator<ValidOtp, String> {
 
+    private static final int OTP_LENGTH = 6;
+
     @Override
     public boolean isValid(final String otp, final ConstraintValidatorContext context) {
-        if (otp == null || otp.trim().isEmpty()) {
+        if (otp == null || CharClasses.isBlank(otp)) {
             return buildViolation(context, "OTP is required.");
         }
 
-        if (!otp.matches("\\d{6}")) {
+        if (!isSixDigits(otp)) {
             return buildViolation(context, "OTP must be exactly 6 digits.");
         }
 
         return true;
     }
 
+    private static boolean isSixDigits(final String otp) {
+        if (otp.length() != OTP_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < OTP_LENGTH; i++) {
+            if (CharClasses.of(otp.charAt(i)) != CharClasses.DIGIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private boolean buildViolation(ConstraintValidatorContext context, String message) {
         context.disableDefaultConstraintViolation();
         context.buildConstraintViolationWithTemplate(message)
@@ -7,6 +7,9 @@ import jakarta.validation.ConstraintValidatorContext;
 
 public class PasswordValidator implements ConstraintValidator<ValidPassword, String> {
 
+    private static final int REQUIRED_CLASSES =
+            CharClasses.LOWER | CharClasses.UPPER | CharClasses.DIGIT | CharClasses.PASSWORD_SPECIAL;
+
     private String fieldName;
 
     @Override
@@ -16,7 +19,19 @@ public class PasswordValidator implements ConstraintValidator<ValidPassword, Str
 
     @Override
     public boolean isValid(final String password, final ConstraintValidatorContext context) {
-        if (password == null || password.trim().isEmpty()) {
+        if (password == null) {
+            return buildViolation(context, fieldName + " is required");
+        }
+
+        boolean blank = true;
+        int classes = 0;
+        for (int i = 0, length = password.length(); i < length; i++) {
+            final char c = password.charAt(i);
+            blank &= c <= ' ';
+            classes |= CharClasses.of(c);
+        }
+
+        if (blank) {
             return buildViolation(context,fieldName + " is required");
         }
 
@@ -24,7 +39,7 @@ public class PasswordValidator implements ConstraintValidator<ValidPassword, Str
             return buildViolation(context, fieldName + " must be at least 8 characters long");
         }
 
-        if (!password.matches("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&]).+$")) {
+        if ((classes & REQUIRED_CLASSES) != REQUIRED_CLASSES || (classes & CharClasses.LINE_TERMINATOR) != 0) {
             return buildViolation(context, fieldName + " must include uppercase, lowercase, number, and special character");
         }
 
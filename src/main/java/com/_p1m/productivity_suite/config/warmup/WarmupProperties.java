@@ -0,0 +1,23 @@
+package com._p1m.productivity_suite.config.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+    /** Whether to exercise the request hot paths before the readiness probe reports UP. */
+    private boolean enabled = true;
+
+    /** Iterations of the token, mapping and serialization paths; warmup stops at this or {@link #maxDuration}. */
+    private int iterations = 5_000;
+
+    /** Upper bound on the whole warmup, so a slow or throttled pod still becomes ready. */
+    private Duration maxDuration = Duration.ofSeconds(20);
+
+    /** BCrypt checks run before the iterations; each one costs as much as a login. */
+    private int passwordChecks = 20;
+}
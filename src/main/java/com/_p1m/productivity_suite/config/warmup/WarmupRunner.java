@@ -0,0 +1,157 @@
+package com._p1m.productivity_suite.config.warmup;
+
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.config.utils.DtoUtil;
+import com._p1m.productivity_suite.data.enums.Gender;
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com._p1m.productivity_suite.security.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the per-request hot paths (JWT signing and validation, entity-to-DTO mapping, {@link ApiResponse}
+ * serialization and BCrypt) on synthetic data so the JIT has compiled them before real traffic arrives.
+ * Nothing is read from or written to the database.
+ *
+ * <p>Application runners complete before Spring Boot publishes {@code ApplicationReadyEvent}, which is what
+ * moves the readiness state to ACCEPTING_TRAFFIC, so {@code /actuator/health/readiness} stays OUT_OF_SERVICE
+ * until the warmup has finished.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    /** Iterations averaged at each end of the run to report how much faster the hot paths became. */
+    static final int LATENCY_WINDOW = 100;
+
+    private static final String SYNTHETIC_PASSWORD = "Warmup#Password1";
+    private static final String SYNTHETIC_DOMAIN = "@warmup.invalid";
+
+    private final WarmupProperties properties;
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final DtoUtil dtoUtil;
+
+    /** Folds every result in so the JIT cannot discard the work as dead code. */
+    private long sink;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final long start = System.nanoTime();
+        final long deadline = start + this.properties.getMaxDuration().toNanos();
+
+        int passwordChecks = 0;
+        int iterations = 0;
+        final long[] recent = new long[LATENCY_WINDOW];
+        long firstWindowNanos = 0;
+        try {
+            final String hash = this.passwordEncoder.encode(SYNTHETIC_PASSWORD);
+            while (passwordChecks < this.properties.getPasswordChecks() && System.nanoTime() < deadline) {
+                this.sink += this.passwordEncoder.matches(SYNTHETIC_PASSWORD, hash) ? 1 : 0;
+                passwordChecks++;
+            }
+
+            while (iterations < this.properties.getIterations() && System.nanoTime() < deadline) {
+                final long iterationStart = System.nanoTime();
+                this.exercise(iterations);
+                final long elapsed = System.nanoTime() - iterationStart;
+                if (iterations < LATENCY_WINDOW) {
+                    firstWindowNanos += elapsed;
+                }
+                recent[iterations % LATENCY_WINDOW] = elapsed;
+                iterations++;
+            }
+        } catch (final Exception e) {
+            // Warmup only affects latency; a failing hot path surfaces on the first real request instead.
+            log.warn("Warmup stopped after {} iterations", iterations, e);
+        }
+
+        final long durationNanos = System.nanoTime() - start;
+        final int window = Math.min(iterations, LATENCY_WINDOW);
+        final double firstMeanNanos = window == 0 ? 0 : (double) firstWindowNanos / window;
+        final double lastMeanNanos = window == 0 ? 0 : (double) sumOfLast(recent, iterations, window) / window;
+        this.recordMetrics(durationNanos, iterations, passwordChecks, firstMeanNanos, lastMeanNanos);
+
+        log.info("Warmup finished in {} ms: {} iterations, {} password checks, mean iteration {} us -> {} us (sink {})",
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), iterations, passwordChecks,
+                Math.round(firstMeanNanos / 1_000), Math.round(lastMeanNanos / 1_000), this.sink);
+    }
+
+    private void exercise(final int iteration) throws Exception {
+        final String email = "warmup-" + iteration + SYNTHETIC_DOMAIN;
+        final User user = User.builder()
+                .id(-1L - iteration)
+                .name("Warmup User " + iteration)
+                .username("warmup-" + iteration)
+                .email(email)
+                .gender(Gender.values()[1 + iteration % 3].getValue())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        final UserDto dto = this.dtoUtil.map(user, UserDto.class);
+        final byte[] body = this.objectMapper.writeValueAsBytes(ApiResponse.builder()
+                .success(1)
+                .code(200)
+                .meta(Map.of("method", "GET", "endpoint", "/productivity-suite/api/v1/auth/me"))
+                .data(dto)
+                .message("Warmup")
+                .build());
+
+        final String token = this.jwtService.generateToken(Map.of("email", email), email, 60_000);
+        this.sink += body.length + this.jwtService.validateToken(token).getSubject().length();
+    }
+
+    private void recordMetrics(final long durationNanos, final int iterations, final int passwordChecks,
+                               final double firstMeanNanos, final double lastMeanNanos) {
+        Timer.builder("warmup.duration")
+                .description("Time spent warming up before the application reported ready")
+                .register(this.meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("warmup.iterations")
+                .description("Hot-path iterations run during warmup")
+                .register(this.meterRegistry)
+                .increment(iterations);
+        Counter.builder("warmup.password.checks")
+                .description("BCrypt checks run during warmup")
+                .register(this.meterRegistry)
+                .increment(passwordChecks);
+        TimeGauge.builder("warmup.iteration.latency", () -> firstMeanNanos, TimeUnit.NANOSECONDS)
+                .description("Mean hot-path iteration time at the start and end of warmup")
+                .tag("window", "first")
+                .register(this.meterRegistry);
+        TimeGauge.builder("warmup.iteration.latency", () -> lastMeanNanos, TimeUnit.NANOSECONDS)
+                .description("Mean hot-path iteration time at the start and end of warmup")
+                .tag("window", "last")
+                .register(this.meterRegistry);
+    }
+
+    private static long sumOfLast(final long[] recent, final int iterations, final int window) {
+        long sum = 0;
+        for (int i = iterations - window; i < iterations; i++) {
+            sum += recent[i % LATENCY_WINDOW];
+        }
+        return sum;
+    }
+}
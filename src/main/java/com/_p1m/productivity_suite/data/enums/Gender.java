@@ -1,13 +1,24 @@
 package com._p1m.productivity_suite.data.enums;
 
-import java.util.Arrays;
-
 public enum Gender {
     INVALID(0, "Invalid"),
     MALE(1, "Male"),
     FEMALE(2, "Female"),
     OTHER(3, "Other");
 
+    private static final Gender[] BY_VALUE;
+
+    static {
+        int maxValue = 0;
+        for (final Gender gender : values()) {
+            maxValue = Math.max(maxValue, gender.value);
+        }
+        BY_VALUE = new Gender[maxValue + 1];
+        for (final Gender gender : values()) {
+            BY_VALUE[gender.value] = gender;
+        }
+    }
+
     private final Integer value;
     private final String code;
 
@@ -21,21 +32,19 @@ public enum Gender {
     public String getCode() { return code; }
 
     public static Gender fromInt(Integer value) {
-        if (value == null) return INVALID;
+        if (value == null || value < 0 || value >= BY_VALUE.length) return INVALID;
 
-        return Arrays.stream(Gender.values())
-                .filter(gender -> gender.getValue().equals(value))
-                .findFirst()
-                .orElse(INVALID);
+        final Gender gender = BY_VALUE[value];
+        return gender != null ? gender : INVALID;
     }
 
-    public boolean isInvalid() { return this.value.equals(Gender.INVALID.getValue()); }
+    public boolean isInvalid() { return this == INVALID; }
 
-    public boolean isMale() { return this.value.equals(Gender.MALE.getValue()); }
+    public boolean isMale() { return this == MALE; }
 
-    public boolean isFemale() { return this.value.equals(Gender.FEMALE.getValue()); }
+    public boolean isFemale() { return this == FEMALE; }
 
-    public boolean isOther() { return this.value.equals(Gender.OTHER.getValue()); }
+    public boolean isOther() { return this == OTHER; }
 
     public static boolean isValidValue(Integer value) {
         return value != null && !fromInt(value).isInvalid();
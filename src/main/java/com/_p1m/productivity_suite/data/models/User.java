@@ -2,7 +2,10 @@ package com._p1m.productivity_suite.data.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,9 +16,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @RequiredArgsConstructor
 @Table(name = "users")
+@SQLDelete(sql = "UPDATE users SET deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -44,6 +50,19 @@ public class User {
     @Column(nullable = false)
     private boolean loginFirstTime = true;
 
+    private LocalDateTime lastLoginAt;
+
+    /** Grants {@code ROLE_ADMIN} while the account is live, active and verified. Set by operators only. */
+    @Builder.Default
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean admin = false;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long loginCount = 0;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -0,0 +1,15 @@
+package com._p1m.productivity_suite.features.activity;
+
+/**
+ * Client telemetry captured on the request path. Kept as small as possible, since it is created
+ * on every tracked request; conversion to SQL types happens on the drainer thread.
+ */
+public record ActivityEvent(
+        long occurredAtMillis,
+        Long userId,
+        ActivityType type,
+        String routeName,
+        String browserName,
+        String pageName
+) {
+}
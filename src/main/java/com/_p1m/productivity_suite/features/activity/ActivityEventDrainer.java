@@ -0,0 +1,102 @@
+package com._p1m.productivity_suite.features.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves buffered activity events into {@code activity_events} in JDBC batches. Runs on the
+ * scheduler thread, the buffer's only consumer, and drains once more on graceful shutdown.
+ * A failed batch is logged and dropped rather than retried, so a database outage cannot back
+ * up into the request path.
+ */
+@Slf4j
+@Component
+public class ActivityEventDrainer implements SmartLifecycle {
+
+    static final String INSERT_EVENT = """
+            INSERT INTO activity_events (occurred_at, user_id, event_type, route_name, browser_name, page_name)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int[] ARGUMENT_TYPES = {
+            Types.TIMESTAMP, Types.BIGINT, Types.SMALLINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+    };
+
+    private final ActivityRecorder recorder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // A lock rather than synchronized: a virtual thread must not hold a monitor across JDBC calls.
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private volatile boolean running;
+
+    public ActivityEventDrainer(final ActivityRecorder recorder, final JdbcTemplate jdbcTemplate,
+                                final TransactionTemplate transactionTemplate, final ActivityProperties properties) {
+        this.recorder = recorder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = properties.getBatchSize();
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.drain-interval:PT0.5S}")
+    public void drain() {
+        drainLock.lock();
+        try {
+            final List<Object[]> batch = new ArrayList<>(batchSize);
+            while (recorder.drain(event -> batch.add(toRow(event)), batchSize) > 0) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.batchUpdate(INSERT_EVENT, batch, ARGUMENT_TYPES));
+                } catch (RuntimeException e) {
+                    log.warn("Dropped {} activity events that could not be written", batch.size(), e);
+                }
+                batch.clear();
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drain();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server's graceful shutdown, so events of requests still in flight make
+     * the final drain.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    private static Object[] toRow(final ActivityEvent event) {
+        return new Object[]{new Timestamp(event.occurredAtMillis()), event.userId(), event.type().getValue(),
+                event.routeName(), event.browserName(), event.pageName()};
+    }
+}
@@ -0,0 +1,50 @@
+package com._p1m.productivity_suite.features.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Creates the monthly partitions of {@code activity_events} ahead of time. Events for a month
+ * without a partition land in {@code activity_events_default}.
+ */
+@Slf4j
+@Component
+public class ActivityPartitionMaintainer {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int partitionsAhead;
+
+    public ActivityPartitionMaintainer(final JdbcTemplate jdbcTemplate, final ActivityProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionsAhead = properties.getPartitionsAhead();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.activity.partition-cron:0 0 1 * * *}")
+    public void createUpcomingPartitions() {
+        final YearMonth current = YearMonth.now();
+        for (int i = 0; i <= partitionsAhead; i++) {
+            final YearMonth month = current.plusMonths(i);
+            try {
+                jdbcTemplate.execute(createPartitionSql(month));
+            } catch (RuntimeException e) {
+                log.warn("Could not create activity_events partition for {}", month, e);
+            }
+        }
+    }
+
+    static String createPartitionSql(final YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS activity_events_" + month.format(SUFFIX)
+                + " PARTITION OF activity_events FOR VALUES FROM ('" + month.atDay(1)
+                + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
@@ -0,0 +1,23 @@
+package com._p1m.productivity_suite.features.activity;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.activity")
+public class ActivityProperties {
+
+    /** Events held in memory between drains; must be a power of two. Further events are dropped. */
+    private int bufferCapacity = 65_536;
+
+    /** Maximum events per INSERT batch. */
+    private int batchSize = 1_000;
+
+    /** How often the drainer writes buffered events. Also read by {@code @Scheduled}, so use ISO-8601 (e.g. {@code PT0.5S}). */
+    private Duration drainInterval = Duration.ofMillis(500);
+
+    /** Monthly partitions created ahead of the current month. */
+    private int partitionsAhead = 2;
+}
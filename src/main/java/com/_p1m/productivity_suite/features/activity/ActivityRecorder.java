@@ -0,0 +1,52 @@
+package com._p1m.productivity_suite.features.activity;
+
+import com._p1m.productivity_suite.config.utils.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Request-side entry point for activity events. Recording is a single non-blocking buffer
+ * insert; when the buffer is full the event is dropped and counted in
+ * {@code activity.events.dropped}.
+ */
+@Component
+@EnableConfigurationProperties(ActivityProperties.class)
+public class ActivityRecorder {
+
+    static final int MAX_FIELD_LENGTH = 128;
+
+    private final MpscRingBuffer<ActivityEvent> buffer;
+    private final Counter dropped;
+
+    public ActivityRecorder(final ActivityProperties properties, final MeterRegistry meterRegistry) {
+        this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+        this.dropped = Counter.builder("activity.events.dropped")
+                .description("Activity events dropped because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("activity.events.buffered", buffer, MpscRingBuffer::size)
+                .description("Activity events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public void record(final ActivityType type, final Long userId, final String routeName, final String browserName,
+                       final String pageName) {
+        final ActivityEvent event = new ActivityEvent(System.currentTimeMillis(), userId, type,
+                truncate(routeName), truncate(browserName), truncate(pageName));
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    int drain(final Consumer<ActivityEvent> consumer, final int limit) {
+        return buffer.drain(consumer, limit);
+    }
+
+    private static String truncate(final String value) {
+        return value == null || value.length() <= MAX_FIELD_LENGTH ? value : value.substring(0, MAX_FIELD_LENGTH);
+    }
+}
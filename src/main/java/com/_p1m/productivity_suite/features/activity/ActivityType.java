@@ -0,0 +1,19 @@
+package com._p1m.productivity_suite.features.activity;
+
+/**
+ * Kind of client activity. The value is what is stored in {@code activity_events.event_type}.
+ */
+public enum ActivityType {
+    LOGIN(1),
+    PAGE_VIEW(2);
+
+    private final int value;
+
+    ActivityType(final int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,103 @@
+package com._p1m.productivity_suite.features.activity.controller;
+
+import com._p1m.productivity_suite.config.request.RequestUtils;
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.config.response.utils.ResponseUtils;
+import com._p1m.productivity_suite.features.activity.dto.ActiveUsersPoint;
+import com._p1m.productivity_suite.features.activity.dto.ActivityCount;
+import com._p1m.productivity_suite.features.activity.rollup.RollupGranularity;
+import com._p1m.productivity_suite.features.activity.service.ActivityAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Activity Analytics", description = "Admin-only activity dashboards served from pre-aggregated rollups")
+@RestController
+@RequestMapping("/productivity-suite/api/v1/admin/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityAnalyticsController {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final ActivityAnalyticsService activityAnalyticsService;
+
+    @Operation(
+            summary = "Active users",
+            description = "Distinct active users per hour or day. Defaults to the last 30 days.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Active users retrieved",
+                            content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+            }
+    )
+    @GetMapping("/active-users")
+    public ResponseEntity<ApiResponse> getActiveUsers(
+            @RequestParam(defaultValue = "day") final String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+            final HttpServletRequest request
+    ) {
+        final double requestStartTime = RequestUtils.extractRequestStartTime(request);
+
+        final LocalDateTime end = to != null ? to : LocalDateTime.now();
+        final LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+        final List<ActiveUsersPoint> points = activityAnalyticsService.getActiveUsers(
+                RollupGranularity.fromParameter(granularity), start, end);
+
+        final ApiResponse response = ApiResponse.builder()
+                .success(1)
+                .code(HttpStatus.OK.value())
+                .data(Map.of("activeUsers", points))
+                .message("Active users retrieved successfully.")
+                .build();
+
+        return ResponseUtils.buildResponse(request, response, requestStartTime);
+    }
+
+    @Operation(
+            summary = "Top pages, browsers or event types",
+            description = "Event totals per page, browser or event type, busiest first, at hour resolution. Defaults to the last 30 days.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Counts retrieved",
+                            content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+            }
+    )
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse> getTopValues(
+            @RequestParam(defaultValue = "page") final String dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+            @RequestParam(defaultValue = "20") final int limit,
+            final HttpServletRequest request
+    ) {
+        final double requestStartTime = RequestUtils.extractRequestStartTime(request);
+
+        final LocalDateTime end = to != null ? to : LocalDateTime.now();
+        final LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+        final List<ActivityCount> counts = activityAnalyticsService.getTopValues(dimension, start, end, limit);
+
+        final ApiResponse response = ApiResponse.builder()
+                .success(1)
+                .code(HttpStatus.OK.value())
+                .data(Map.of("counts", counts))
+                .message("Activity counts retrieved successfully.")
+                .build();
+
+        return ResponseUtils.buildResponse(request, response, requestStartTime);
+    }
+}
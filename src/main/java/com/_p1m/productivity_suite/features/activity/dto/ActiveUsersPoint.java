@@ -0,0 +1,6 @@
+package com._p1m.productivity_suite.features.activity.dto;
+
+import java.time.LocalDateTime;
+
+public record ActiveUsersPoint(LocalDateTime bucket, long users) {
+}
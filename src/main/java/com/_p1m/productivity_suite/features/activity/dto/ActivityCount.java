@@ -0,0 +1,4 @@
+package com._p1m.productivity_suite.features.activity.dto;
+
+public record ActivityCount(String value, long events) {
+}
@@ -0,0 +1,122 @@
+package com._p1m.productivity_suite.features.activity.rollup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Folds new {@code activity_events} into the rollup tables, one bounded time step per
+ * transaction, advancing a watermark. Each step reads only the events between the watermark
+ * and the step end, so the cost depends on new activity, not on history. Events written more
+ * than {@link #SETTLE_DELAY} after they occurred are not counted.
+ *
+ * <p>A transaction-scoped advisory lock keeps nodes from rolling up the same range twice.</p>
+ */
+@Slf4j
+@Component
+public class ActivityRollupJob {
+
+    static final Duration SETTLE_DELAY = Duration.ofMinutes(1);
+    static final Duration MAX_STEP = Duration.ofHours(1);
+    private static final int MAX_STEPS_PER_RUN = 48;
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_xact_lock(hashtext('activity_rollup'))";
+
+    // The scalar subquery only runs while the watermark row is missing, so regular runs skip the scan.
+    private static final String INIT_WATERMARK = """
+            INSERT INTO activity_rollup_watermark (name, processed_until)
+            SELECT 'activity', COALESCE((SELECT date_trunc('hour', min(occurred_at)) FROM activity_events),
+                                        date_trunc('hour', now()::timestamp))
+            WHERE NOT EXISTS (SELECT 1 FROM activity_rollup_watermark WHERE name = 'activity')
+            ON CONFLICT (name) DO NOTHING
+            """;
+
+    static final String ROLL_UP_STEP = """
+            WITH bounds AS (
+                SELECT processed_until AS lo, LEAST(processed_until + ?::interval, ?::timestamp) AS hi
+                FROM activity_rollup_watermark
+                WHERE name = 'activity'
+            ), events AS (
+                SELECT e.occurred_at, e.user_id, e.event_type, e.page_name, e.browser_name
+                FROM activity_events e, bounds b
+                WHERE e.occurred_at >= b.lo AND e.occurred_at < b.hi
+            ), new_hours AS (
+                INSERT INTO activity_user_hours (bucket, user_id)
+                SELECT DISTINCT date_trunc('hour', occurred_at), user_id FROM events WHERE user_id IS NOT NULL
+                ON CONFLICT DO NOTHING
+                RETURNING bucket
+            ), new_days AS (
+                INSERT INTO activity_user_days (bucket, user_id)
+                SELECT DISTINCT date_trunc('day', occurred_at), user_id FROM events WHERE user_id IS NOT NULL
+                ON CONFLICT DO NOTHING
+                RETURNING bucket
+            ), active AS (
+                INSERT INTO activity_active_users (granularity, bucket, users)
+                SELECT 'hour', bucket, count(*) FROM new_hours GROUP BY bucket
+                UNION ALL
+                SELECT 'day', bucket, count(*) FROM new_days GROUP BY bucket
+                ON CONFLICT (granularity, bucket) DO UPDATE SET users = activity_active_users.users + EXCLUDED.users
+            ), counted AS (
+                SELECT g.granularity, d.dimension, date_trunc(g.granularity, e.occurred_at) AS bucket, d.value,
+                       count(*) AS events
+                FROM events e
+                CROSS JOIN (VALUES ('hour'), ('day')) AS g (granularity)
+                CROSS JOIN LATERAL (VALUES ('page', COALESCE(e.page_name, '')),
+                                           ('browser', COALESCE(e.browser_name, '')),
+                                           ('event', e.event_type::text)) AS d (dimension, value)
+                GROUP BY 1, 2, 3, 4
+            ), counts AS (
+                INSERT INTO activity_counts (granularity, dimension, bucket, value, events)
+                SELECT granularity, dimension, bucket, value, events FROM counted
+                ON CONFLICT (granularity, dimension, bucket, value)
+                    DO UPDATE SET events = activity_counts.events + EXCLUDED.events
+            )
+            UPDATE activity_rollup_watermark w
+            SET processed_until = b.hi
+            FROM bounds b
+            WHERE w.name = 'activity' AND b.hi > b.lo
+            RETURNING w.processed_until
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ActivityRollupJob(final JdbcTemplate jdbcTemplate, final TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.rollup-interval:PT1M}")
+    public void run() {
+        jdbcTemplate.update(INIT_WATERMARK);
+        final Timestamp settledUntil = Timestamp.valueOf(LocalDateTime.now().minus(SETTLE_DELAY));
+        for (int step = 0; step < MAX_STEPS_PER_RUN; step++) {
+            if (!rollUpStep(settledUntil)) {
+                return;
+            }
+        }
+        log.info("Activity rollup is still catching up; continuing on the next run");
+    }
+
+    /**
+     * @return {@code true} if the watermark advanced and more events may be waiting.
+     */
+    boolean rollUpStep(final Timestamp settledUntil) {
+        final Boolean advanced = transactionTemplate.execute(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK, Boolean.class))) {
+                return false;
+            }
+            final Timestamp processedUntil = jdbcTemplate.query(ROLL_UP_STEP,
+                    resultSet -> resultSet.next() ? resultSet.getTimestamp(1) : null,
+                    MAX_STEP.getSeconds() + " seconds", settledUntil);
+            return processedUntil != null && processedUntil.before(settledUntil);
+        });
+        return Boolean.TRUE.equals(advanced);
+    }
+}
@@ -0,0 +1,36 @@
+package com._p1m.productivity_suite.features.activity.rollup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Bucket size of the activity rollups. The name is the value stored in the {@code granularity}
+ * columns and accepted by {@code date_trunc}.
+ */
+public enum RollupGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(final ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public String getValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public LocalDateTime truncate(final LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public static RollupGranularity fromParameter(final String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported granularity: " + value);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com._p1m.productivity_suite.features.activity.service;
+
+import com._p1m.productivity_suite.features.activity.dto.ActiveUsersPoint;
+import com._p1m.productivity_suite.features.activity.dto.ActivityCount;
+import com._p1m.productivity_suite.features.activity.rollup.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ActivityAnalyticsService {
+
+    /**
+     * @return distinct active users per bucket in {@code [from, to)}, oldest first; empty buckets are omitted.
+     */
+    List<ActiveUsersPoint> getActiveUsers(final RollupGranularity granularity, final LocalDateTime from, final LocalDateTime to);
+
+    /**
+     * @param dimension {@code page}, {@code browser} or {@code event}.
+     * @return event totals per value of the dimension in {@code [from, to)}, busiest first.
+     */
+    List<ActivityCount> getTopValues(final String dimension, final LocalDateTime from, final LocalDateTime to, final int limit);
+}
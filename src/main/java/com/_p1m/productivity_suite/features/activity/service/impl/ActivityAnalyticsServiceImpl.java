@@ -0,0 +1,103 @@
+package com._p1m.productivity_suite.features.activity.service.impl;
+
+import com._p1m.productivity_suite.features.activity.dto.ActiveUsersPoint;
+import com._p1m.productivity_suite.features.activity.dto.ActivityCount;
+import com._p1m.productivity_suite.features.activity.rollup.RollupGranularity;
+import com._p1m.productivity_suite.features.activity.service.ActivityAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves analytics from the rollup tables only; raw events are never scanned here. Every query
+ * is a primary-key range scan over at most one row per bucket (and value).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivityAnalyticsServiceImpl implements ActivityAnalyticsService {
+
+    static final Duration MAX_RANGE = Duration.ofDays(366);
+    static final int MAX_LIMIT = 100;
+    private static final Set<String> DIMENSIONS = Set.of("page", "browser", "event");
+
+    private static final String ACTIVE_USERS = """
+            SELECT bucket, users
+            FROM activity_active_users
+            WHERE granularity = ? AND bucket >= ? AND bucket < ?
+            ORDER BY bucket
+            """;
+
+    // Whole days come from the daily rows; partial days at either end from the hourly rows.
+    private static final String TOP_VALUES = """
+            SELECT value, sum(events) AS events
+            FROM activity_counts
+            WHERE dimension = ?
+              AND ((granularity = 'day' AND bucket >= ? AND bucket < ?)
+                OR (granularity = 'hour' AND bucket >= ? AND bucket < ?)
+                OR (granularity = 'hour' AND bucket >= ? AND bucket < ?))
+            GROUP BY value
+            ORDER BY events DESC, value
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ActiveUsersPoint> getActiveUsers(final RollupGranularity granularity, final LocalDateTime from,
+                                                 final LocalDateTime to) {
+        validateRange(from, to);
+        return jdbcTemplate.query(ACTIVE_USERS,
+                (resultSet, rowNum) -> new ActiveUsersPoint(resultSet.getTimestamp(1).toLocalDateTime(), resultSet.getLong(2)),
+                granularity.getValue(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<ActivityCount> getTopValues(final String dimension, final LocalDateTime from, final LocalDateTime to,
+                                            final int limit) {
+        validateRange(from, to);
+        if (!DIMENSIONS.contains(dimension)) {
+            throw new IllegalArgumentException("Unsupported dimension: " + dimension);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+
+        final LocalDateTime start = RollupGranularity.HOUR.truncate(from);
+        final LocalDateTime end = RollupGranularity.HOUR.truncate(to);
+        LocalDateTime firstDay = RollupGranularity.DAY.truncate(start);
+        if (firstDay.isBefore(start)) {
+            firstDay = firstDay.plusDays(1);
+        }
+        LocalDateTime lastDay = RollupGranularity.DAY.truncate(end);
+        if (lastDay.isBefore(firstDay)) {
+            // The range sits inside a single day: hourly rows only.
+            firstDay = end;
+            lastDay = end;
+        }
+
+        return jdbcTemplate.query(TOP_VALUES,
+                (resultSet, rowNum) -> new ActivityCount(resultSet.getString(1), resultSet.getLong(2)),
+                dimension,
+                Timestamp.valueOf(firstDay), Timestamp.valueOf(lastDay),
+                Timestamp.valueOf(start), Timestamp.valueOf(firstDay),
+                Timestamp.valueOf(lastDay), Timestamp.valueOf(end),
+                limit);
+    }
+
+    private static void validateRange(final LocalDateTime from, final LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_RANGE.toDays() + " days.");
+        }
+    }
+}
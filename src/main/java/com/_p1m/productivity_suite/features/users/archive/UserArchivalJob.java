@@ -0,0 +1,106 @@
+package com._p1m.productivity_suite.features.users.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves users that have been soft-deleted for longer than the retention period from {@code users}
+ * to {@code users_archive}, so the live table and its indexes only hold active accounts.
+ *
+ * <p>Rows are moved in small keyset batches, each in its own transaction. Rows locked by another
+ * node are skipped and picked up on the next run.</p>
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(UserArchivalProperties.class)
+@ConditionalOnProperty(prefix = "app.user-archival", name = "enabled", matchIfMissing = true)
+public class UserArchivalJob {
+
+    static final String ARCHIVE_BATCH = """
+            WITH moved AS (
+                DELETE FROM users
+                WHERE id IN (SELECT id FROM users
+                             WHERE deleted_at IS NOT NULL AND deleted_at < ? AND id > ?
+                             ORDER BY id
+                             LIMIT ?
+                             FOR UPDATE SKIP LOCKED)
+                RETURNING *
+            )
+            INSERT INTO users_archive (id, email, deleted_at, payload)
+            SELECT id, email, deleted_at, to_jsonb(moved) - 'password' FROM moved
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserArchivalProperties properties;
+
+    public UserArchivalJob(final JdbcTemplate jdbcTemplate, final TransactionTemplate transactionTemplate,
+                           final UserArchivalProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${app.user-archival.cron:0 30 3 * * *}")
+    public void run() {
+        final int archived = archiveDeletedUsers(LocalDateTime.now().minus(properties.getRetention()));
+        if (archived > 0) {
+            log.info("Archived {} deleted users", archived);
+        }
+    }
+
+    /**
+     * Archives every user soft-deleted before the cutoff.
+     *
+     * @param cutoff users deleted before this instant are archived.
+     * @return the number of archived users.
+     */
+    public int archiveDeletedUsers(final LocalDateTime cutoff) {
+        final Timestamp deletedBefore = Timestamp.valueOf(cutoff);
+        final int batchSize = properties.getBatchSize();
+        long lastId = 0;
+        int total = 0;
+        while (true) {
+            final List<Long> ids = archiveBatch(deletedBefore, lastId, batchSize);
+            total += ids.size();
+            if (ids.size() < batchSize) {
+                return total;
+            }
+            lastId = Collections.max(ids);
+            if (!pause()) {
+                return total;
+            }
+        }
+    }
+
+    private List<Long> archiveBatch(final Timestamp deletedBefore, final long afterId, final int batchSize) {
+        final List<Long> ids = transactionTemplate.execute(status ->
+                jdbcTemplate.queryForList(ARCHIVE_BATCH, Long.class, deletedBefore, afterId, batchSize));
+        return ids != null ? ids : List.of();
+    }
+
+    private boolean pause() {
+        final long millis = properties.getBatchPause().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
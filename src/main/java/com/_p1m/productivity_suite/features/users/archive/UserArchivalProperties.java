@@ -0,0 +1,20 @@
+package com._p1m.productivity_suite.features.users.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.user-archival")
+public class UserArchivalProperties {
+
+    /** How long a user stays soft-deleted in the live table before being archived. */
+    private Duration retention = Duration.ofDays(30);
+
+    /** Rows moved per transaction; keeps locks and WAL bursts short. */
+    private int batchSize = 500;
+
+    /** Pause between batches so the job yields to foreground traffic. */
+    private Duration batchPause = Duration.ofMillis(100);
+}
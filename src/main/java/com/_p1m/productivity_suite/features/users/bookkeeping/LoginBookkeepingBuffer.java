@@ -0,0 +1,173 @@
+package com._p1m.productivity_suite.features.users.bookkeeping;
+
+import com._p1m.productivity_suite.features.users.cache.UserCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for login bookkeeping: last login time, login count and the first-login flag.
+ *
+ * <p>Logins only merge into an in-memory entry per user. A scheduled flush, and a final one on
+ * graceful shutdown, writes all pending entries as one batch of targeted {@code UPDATE}s, so the
+ * login request never waits on these writes and repeated logins of one user cost one row update.
+ * A crash loses at most one flush interval of bookkeeping.</p>
+ *
+ * <p>The first-login flag read with the credentials can be stale: the update may still be pending
+ * here, being flushed, or not yet replayed on the replica that served the read. A flag that is
+ * still set is therefore checked against this buffer and then against the primary.</p>
+ */
+@Slf4j
+@Component
+public class LoginBookkeepingBuffer implements SmartLifecycle {
+
+    static final String UPDATE_LOGIN = """
+            UPDATE users
+            SET last_login_at = GREATEST(last_login_at, ?),
+                login_count = login_count + ?,
+                login_first_time = login_first_time AND NOT ?
+            WHERE id = ?
+            """;
+
+    static final String SELECT_FIRST_LOGIN = "SELECT login_first_time FROM users WHERE id = ?";
+
+    private final Map<Long, PendingLogin> pending = new ConcurrentHashMap<>();
+    private final Set<Long> flushingFirstLogins = ConcurrentHashMap.newKeySet();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCache userCache;
+
+    private volatile boolean running;
+
+    public LoginBookkeepingBuffer(final JdbcTemplate jdbcTemplate, final TransactionTemplate transactionTemplate,
+                                  final UserCache userCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userCache = userCache;
+    }
+
+    /**
+     * Records a successful login. Only touches memory.
+     *
+     * @param firstLogin whether the stored first-login flag was still set.
+     */
+    public void recordLogin(final Long userId, final String email, final boolean firstLogin) {
+        final PendingLogin login = new PendingLogin(email, LocalDateTime.now(), 1, firstLogin);
+        pending.merge(userId, login, PendingLogin::merge);
+    }
+
+    /**
+     * Decides whether a successful login is the user's first.
+     *
+     * @param storedFlag the first-login flag as read with the credentials, possibly from a replica.
+     */
+    public boolean isFirstLogin(final Long userId, final boolean storedFlag) {
+        if (!storedFlag || isFirstLoginRecorded(userId)) {
+            return false;
+        }
+        // A read-write transaction is served by the primary, which has every committed flush.
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject(SELECT_FIRST_LOGIN, Boolean.class, userId)));
+    }
+
+    private boolean isFirstLoginRecorded(final Long userId) {
+        final PendingLogin login = pending.get(userId);
+        return login != null && login.firstLoginCompleted() || flushingFirstLogins.contains(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.login-bookkeeping.flush-interval:PT2S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        final List<Long> userIds = new ArrayList<>(pending.keySet());
+        // Same lock order on every node, so concurrent flushes cannot deadlock.
+        userIds.sort(null);
+        final List<Long> flushedIds = new ArrayList<>(userIds.size());
+        final List<PendingLogin> flushed = new ArrayList<>(userIds.size());
+        for (final Long userId : userIds) {
+            // Marked before the entry leaves the map, and until the update has committed.
+            pending.computeIfPresent(userId, (id, login) -> {
+                if (login.firstLoginCompleted()) {
+                    flushingFirstLogins.add(id);
+                }
+                flushedIds.add(id);
+                flushed.add(login);
+                return null;
+            });
+        }
+
+        final List<Object[]> batch = new ArrayList<>(flushed.size());
+        for (int i = 0; i < flushed.size(); i++) {
+            final PendingLogin login = flushed.get(i);
+            batch.add(new Object[]{Timestamp.valueOf(login.lastLoginAt()), login.count(),
+                    login.firstLoginCompleted(), flushedIds.get(i)});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_LOGIN, batch));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush login bookkeeping for {} users, retrying on the next flush", flushed.size(), e);
+            for (int i = 0; i < flushed.size(); i++) {
+                pending.merge(flushedIds.get(i), flushed.get(i), PendingLogin::merge);
+            }
+            flushingFirstLogins.removeAll(flushedIds);
+            return;
+        }
+
+        for (int i = 0; i < flushed.size(); i++) {
+            if (flushed.get(i).firstLoginCompleted()) {
+                userCache.publishInvalidation(flushedIds.get(i), flushed.get(i).email());
+            }
+        }
+        flushingFirstLogins.removeAll(flushedIds);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server's graceful shutdown, so logins of requests still in flight make
+     * the final flush.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    record PendingLogin(String email, LocalDateTime lastLoginAt, long count, boolean firstLoginCompleted) {
+
+        PendingLogin merge(final PendingLogin other) {
+            return new PendingLogin(email,
+                    lastLoginAt.isAfter(other.lastLoginAt) ? lastLoginAt : other.lastLoginAt,
+                    count + other.count,
+                    firstLoginCompleted || other.firstLoginCompleted);
+        }
+    }
+}
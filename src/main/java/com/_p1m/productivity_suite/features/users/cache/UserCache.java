@@ -0,0 +1,180 @@
+package com._p1m.productivity_suite.features.users.cache;
+
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Near cache of user records, keyed by id and by email.
+ * Entries are bounded in number and age; writes publish an invalidation on a Postgres
+ * NOTIFY channel so every node evicts its copy (see {@link UserCacheInvalidationListener}).
+ *
+ * <p>Cached DTOs are shared between requests and must be treated as read-only.</p>
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(UserCacheProperties.class)
+public class UserCache {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final char PAYLOAD_SEPARATOR = ':';
+
+    private final Cache<String, UserDto> byEmail;
+    private final Cache<Long, UserDto> byId;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(final UserCacheProperties properties, final JdbcTemplate jdbcTemplate, final MeterRegistry meterRegistry) {
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + properties.getChannel());
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = properties.getChannel();
+        this.byEmail = newCache(properties);
+        this.byId = newCache(properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "users", "key", "email");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users", "key", "id");
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the cached user for an email, loading and caching it on a miss.
+     *
+     * @param email  the user's email.
+     * @param loader loads the user on a miss; exceptions propagate and nothing is cached.
+     * @return the cached user.
+     */
+    public UserDto getByEmail(final String email, final Function<String, UserDto> loader) {
+        final UserDto user = getOrLoad(byEmail, email, loader);
+        if (user != null && user.getId() != null && byEmail.asMap().get(email) == user) {
+            byId.put(user.getId(), user);
+        }
+        return user;
+    }
+
+    /**
+     * Returns the cached user for an id, loading and caching it on a miss.
+     *
+     * @param id     the user's id.
+     * @param loader loads the user on a miss; exceptions propagate and nothing is cached.
+     * @return the cached user.
+     */
+    public UserDto getById(final Long id, final Function<Long, UserDto> loader) {
+        final UserDto user = getOrLoad(byId, id, loader);
+        if (user != null && user.getEmail() != null && byId.asMap().get(id) == user) {
+            byEmail.put(user.getEmail(), user);
+        }
+        return user;
+    }
+
+    /**
+     * Evicts a user locally and notifies the other nodes. Inside a transaction the notification is
+     * delivered when it commits, so other nodes never reload the row before the write is visible.
+     *
+     * @param id    the user's id, may be {@code null}.
+     * @param email the user's email, may be {@code null}.
+     */
+    public void publishInvalidation(final Long id, final String email) {
+        invalidate(id, email);
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel,
+                    (id != null ? id.toString() : "") + PAYLOAD_SEPARATOR + (email != null ? email : ""));
+        } catch (Exception ex) {
+            // Other nodes converge through the TTL.
+            log.warn("Failed to publish user cache invalidation: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Applies an invalidation received from the notification channel.
+     *
+     * @param payload {@code <id>:<email>}, either part may be empty.
+     */
+    public void applyInvalidation(final String payload) {
+        final int separator = payload.indexOf(PAYLOAD_SEPARATOR);
+        if (separator < 0) {
+            invalidateAll();
+            return;
+        }
+        final String id = payload.substring(0, separator);
+        final String email = payload.substring(separator + 1);
+        try {
+            invalidate(id.isEmpty() ? null : Long.valueOf(id), email.isEmpty() ? null : email);
+        } catch (NumberFormatException ex) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Evicts a user from this node only.
+     *
+     * @param id    the user's id, may be {@code null}.
+     * @param email the user's email, may be {@code null}.
+     */
+    public void invalidate(final Long id, final String email) {
+        invalidations.incrementAndGet();
+        if (id != null) {
+            final UserDto cached = byId.getIfPresent(id);
+            byId.invalidate(id);
+            if (cached != null && cached.getEmail() != null) {
+                byEmail.invalidate(cached.getEmail());
+            }
+            if (email == null) {
+                byEmail.asMap().values().removeIf(user -> id.equals(user.getId()));
+            }
+        }
+        if (email != null) {
+            final UserDto cached = byEmail.getIfPresent(email);
+            byEmail.invalidate(email);
+            if (cached != null && cached.getId() != null) {
+                byId.invalidate(cached.getId());
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        byEmail.invalidateAll();
+        byId.invalidateAll();
+    }
+
+    /**
+     * Loads outside of Caffeine's compute methods: those hold a monitor on the map bin for the whole
+     * load, which would pin a virtual thread's carrier across the database round trip. Concurrent
+     * misses may load twice. A load that raced with an invalidation is returned but not cached.
+     */
+    private <K> UserDto getOrLoad(final Cache<K, UserDto> cache, final K key, final Function<K, UserDto> loader) {
+        final UserDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final long generation = invalidations.get();
+        final UserDto loaded = loader.apply(key);
+        if (loaded != null && invalidations.get() == generation) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    private static <K> Cache<K, UserDto> newCache(final UserCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+}
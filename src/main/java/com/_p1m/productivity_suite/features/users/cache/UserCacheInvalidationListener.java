@@ -0,0 +1,101 @@
+package com._p1m.productivity_suite.features.users.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Receives user cache invalidations published by other nodes through Postgres LISTEN/NOTIFY.
+ *
+ * <p>Uses its own connection to the primary rather than a pooled one, since it is held for the
+ * lifetime of the application. After a reconnect the whole cache is dropped, because
+ * notifications sent while disconnected are lost.</p>
+ */
+@Slf4j
+@Component
+public class UserCacheInvalidationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+
+    private final UserCache userCache;
+    private final DataSourceProperties dataSourceProperties;
+    private final long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public UserCacheInvalidationListener(final UserCache userCache, final DataSourceProperties dataSourceProperties,
+                                         final UserCacheProperties properties) {
+        this.userCache = userCache;
+        this.dataSourceProperties = dataSourceProperties;
+        this.reconnectDelayMillis = properties.getReconnectDelay().toMillis();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "user-cache-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + userCache.getChannel());
+                }
+                if (reconnecting) {
+                    userCache.invalidateAll();
+                }
+                log.info("Listening for user cache invalidations on channel {}", userCache.getChannel());
+
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (final PGNotification notification : notifications) {
+                            userCache.applyInvalidation(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("User cache invalidation listener disconnected: {}", ex.getMessage());
+                userCache.invalidateAll();
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com._p1m.productivity_suite.features.users.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.user-cache")
+public class UserCacheProperties {
+
+    /** Maximum number of users held per key (id and email). */
+    private long maximumSize = 10_000;
+
+    /** Upper bound on staleness if an invalidation is ever missed. */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /** Postgres LISTEN/NOTIFY channel carrying invalidations between nodes. */
+    private String channel = "user_cache_invalidation";
+
+    /** Delay before the listener reconnects after losing its connection. */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
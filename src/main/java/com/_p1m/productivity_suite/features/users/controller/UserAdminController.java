@@ -0,0 +1,134 @@
+package com._p1m.productivity_suite.features.users.controller;
+
+import com._p1m.productivity_suite.config.request.RequestUtils;
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.config.response.utils.ResponseUtils;
+import com._p1m.productivity_suite.features.users.dto.response.UserImportReport;
+import com._p1m.productivity_suite.features.users.dto.response.UserPage;
+import com._p1m.productivity_suite.features.users.export.UserExportFormat;
+import com._p1m.productivity_suite.features.users.service.UserExportService;
+import com._p1m.productivity_suite.features.users.service.UserImportService;
+import com._p1m.productivity_suite.features.users.service.UserListingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+@Tag(name = "User Administration", description = "Admin-only endpoints for managing users in bulk")
+@RestController
+@RequestMapping("/productivity-suite/api/v1/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+public class UserAdminController {
+
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
+    private final UserListingService userListingService;
+
+    @Operation(
+            summary = "List users",
+            description = "Lists active users newest first. Pass the returned nextCursor to fetch the following page.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Users retrieved",
+                            content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+            }
+    )
+    @GetMapping
+    public ResponseEntity<ApiResponse> listUsers(
+            @RequestParam(required = false) final Boolean status,
+            @RequestParam(required = false) final Boolean emailVerified,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size,
+            final HttpServletRequest request
+    ) {
+        log.debug("Received user listing request (status: {}, emailVerified: {})", status, emailVerified);
+
+        final double requestStartTime = RequestUtils.extractRequestStartTime(request);
+
+        final UserPage page = userListingService.listUsers(status, emailVerified, cursor, size);
+
+        final ApiResponse response = ApiResponse.builder()
+                .success(1)
+                .code(HttpStatus.OK.value())
+                .data(page)
+                .message("Users retrieved successfully.")
+                .build();
+
+        return ResponseUtils.buildResponse(request, response, requestStartTime);
+    }
+
+    @Operation(
+            summary = "Export all users",
+            description = "Streams every active user as NDJSON or CSV, optionally gzip-compressed.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Export streamed")
+            }
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") final String format,
+            @RequestParam(defaultValue = "false") final boolean gzip
+    ) {
+        final UserExportFormat exportFormat = UserExportFormat.fromParameter(format);
+        log.debug("Received user export request as {} (gzip: {})", exportFormat, gzip);
+
+        final String filename = "users." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        final MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.getContentType());
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> userExportService.exportUsers(out, exportFormat, gzip));
+    }
+
+    @Operation(
+            summary = "Import users",
+            description = "Creates users from an NDJSON or CSV request body, counts every rejected row and lists the first ones.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Import processed",
+                            content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+            }
+    )
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse> importUsers(
+            @RequestParam(defaultValue = "ndjson") final String format,
+            final InputStream body,
+            final HttpServletRequest request
+    ) throws IOException {
+        final UserExportFormat importFormat = UserExportFormat.fromParameter(format);
+        log.debug("Received user import request as {}", importFormat);
+
+        final double requestStartTime = RequestUtils.extractRequestStartTime(request);
+
+        final UserImportReport report = userImportService.importUsers(body, importFormat);
+
+        final ApiResponse response = ApiResponse.builder()
+                .success(1)
+                .code(HttpStatus.OK.value())
+                .data(Map.of("report", report))
+                .message("Imported " + report.getImported() + " of " + report.getTotal() + " users.")
+                .build();
+
+        return ResponseUtils.buildResponse(request, response, requestStartTime);
+    }
+}
@@ -0,0 +1,27 @@
+package com._p1m.productivity_suite.features.users.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns needed to authenticate a user, together with the profile returned on a successful login,
+ * so a login reads the user once.
+ */
+public record UserCredentials(
+        Long id,
+        String name,
+        String email,
+        String password,
+        boolean status,
+        Integer gender,
+        boolean loginFirstTime,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * The profile part of these columns, without the password hash.
+     */
+    public UserProfile profile() {
+        return new UserProfile(id, name, email, status, gender, loginFirstTime, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,20 @@
+package com._p1m.productivity_suite.features.users.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of the admin user export. Excludes the password hash.
+ */
+public record UserExportRow(
+        Long id,
+        String name,
+        String username,
+        String email,
+        boolean emailVerified,
+        boolean status,
+        Integer gender,
+        boolean loginFirstTime,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
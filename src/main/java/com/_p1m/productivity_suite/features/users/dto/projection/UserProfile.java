@@ -0,0 +1,18 @@
+package com._p1m.productivity_suite.features.users.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Profile columns of a user, enough to build a {@code UserDto} without the password hash.
+ */
+public record UserProfile(
+        Long id,
+        String name,
+        String email,
+        boolean status,
+        Integer gender,
+        boolean loginFirstTime,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -1,14 +1,17 @@
 package com._p1m.productivity_suite.features.users.dto.response;
 
+import com._p1m.productivity_suite.config.response.utils.FieldSetFilters;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSetFilters.FILTER_ID)
 public class UserDto {
     private Long id;
     private String name;
@@ -0,0 +1,27 @@
+package com._p1m.productivity_suite.features.users.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportReport {
+    private long total;
+    private long imported;
+    /** Every rejected row, including those beyond the listed {@code errors}. */
+    private long failed;
+    /** The rejected rows with the lowest line numbers, at most {@code app.user-import.max-reported-errors}. */
+    private List<RowError> errors;
+
+    /**
+     * Why a line of the import was rejected. {@code line} is 1-based and counts the CSV header.
+     */
+    public record RowError(long line, String email, List<String> messages) {
+    }
+}
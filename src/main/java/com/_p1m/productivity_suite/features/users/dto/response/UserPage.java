@@ -0,0 +1,19 @@
+package com._p1m.productivity_suite.features.users.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPage {
+    private List<UserDto> users;
+
+    /** Opaque token for the next page; {@code null} on the last page. */
+    private String nextCursor;
+}
@@ -0,0 +1,135 @@
+package com._p1m.productivity_suite.features.users.export;
+
+import com._p1m.productivity_suite.features.users.dto.projection.UserExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows one at a time, holding no more than an output buffer in memory.
+ * {@link #finish()} flushes buffered output but leaves the underlying stream open.
+ */
+public interface UserExportWriter {
+
+    void write(UserExportRow row) throws IOException;
+
+    void finish() throws IOException;
+
+    static UserExportWriter of(final UserExportFormat format, final OutputStream out, final ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(out, objectMapper);
+            case CSV -> new Csv(out);
+        };
+    }
+
+    final class Ndjson implements UserExportWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter rowWriter;
+
+        Ndjson(final OutputStream out, final ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.rowWriter = objectMapper.writerFor(UserExportRow.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(final UserExportRow row) throws IOException {
+            rowWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV: records end with CRLF, and fields holding a separator, quote or line break are quoted.
+     * Text cells that a spreadsheet would evaluate as a formula, those starting with {@code =}, {@code +},
+     * {@code -}, {@code @}, a tab or a carriage return, are prefixed with {@code '}.
+     */
+    final class Csv implements UserExportWriter {
+
+        private static final String HEADER =
+                "id,name,username,email,emailVerified,status,gender,loginFirstTime,createdAt,updatedAt\r\n";
+
+        private final Writer writer;
+
+        Csv(final OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            this.writer.write(HEADER);
+        }
+
+        @Override
+        public void write(final UserExportRow row) throws IOException {
+            writer.write(String.valueOf(row.id()));
+            writeField(row.name());
+            writeField(row.username());
+            writeField(row.email());
+            writeField(row.emailVerified());
+            writeField(row.status());
+            writeField(row.gender());
+            writeField(row.loginFirstTime());
+            writeField(row.createdAt());
+            writeField(row.updatedAt());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(final Object value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            final String text = value instanceof String string && startsFormula(string) ? "'" + string : value.toString();
+            if (!needsQuoting(text)) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < text.length(); i++) {
+                final char c = text.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+
+        private static boolean startsFormula(final String text) {
+            if (text.isEmpty()) {
+                return false;
+            }
+            final char first = text.charAt(0);
+            return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        }
+
+        private static boolean needsQuoting(final String text) {
+            for (int i = 0; i < text.length(); i++) {
+                final char c = text.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com._p1m.productivity_suite.features.users.importer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.user-import")
+public class UserImportProperties {
+
+    /**
+     * Threads that hash imported passwords. BCrypt is CPU-bound, so the default leaves half the cores to
+     * request handling; all imports share these threads.
+     */
+    private int hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /** Rejected rows listed in an import report, lowest lines first. Every rejection is still counted. */
+    private int maxReportedErrors = 100;
+}
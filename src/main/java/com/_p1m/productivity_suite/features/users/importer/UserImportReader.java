@@ -0,0 +1,187 @@
+package com._p1m.productivity_suite.features.users.importer;
+
+import com._p1m.productivity_suite.features.users.export.UserExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads import rows one line at a time, in the same NDJSON and CSV layouts the export writes.
+ * Only {@code name}, {@code username}, {@code email}, {@code password} and {@code gender} are read.
+ * CSV fields may be quoted but must not span lines.
+ */
+public abstract class UserImportReader {
+
+    private final BufferedReader reader;
+    private long line;
+
+    UserImportReader(final InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public static UserImportReader of(final UserExportFormat format, final InputStream in, final ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(in, objectMapper);
+            case CSV -> new Csv(in);
+        };
+    }
+
+    /**
+     * @return the next non-empty row, or {@code null} at the end of the input.
+     */
+    public UserImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (!text.isBlank()) {
+                return parse(line, text);
+            }
+        }
+        return null;
+    }
+
+    abstract UserImportRow parse(long line, String text);
+
+    static Integer parseGender(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Integer.valueOf(value.trim());
+    }
+
+    static final class Ndjson extends UserImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        Ndjson(final InputStream in, final ObjectMapper objectMapper) {
+            super(in);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        UserImportRow parse(final long line, final String text) {
+            final JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return UserImportRow.malformed(line, "Malformed JSON.");
+            }
+            if (!node.isObject()) {
+                return UserImportRow.malformed(line, "Expected a JSON object.");
+            }
+            final JsonNode gender = node.get("gender");
+            if (gender != null && !gender.isNull() && !gender.canConvertToInt()) {
+                return UserImportRow.malformed(line, "Gender must be a number.");
+            }
+            return new UserImportRow(line, text(node, "name"), text(node, "username"), text(node, "email"),
+                    text(node, "password"), gender == null || gender.isNull() ? null : gender.intValue(), null);
+        }
+
+        private static String text(final JsonNode node, final String field) {
+            final JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+
+    static final class Csv extends UserImportReader {
+
+        private static final char BYTE_ORDER_MARK = '\uFEFF';
+        private static final List<String> COLUMNS = List.of("name", "username", "email", "password", "gender");
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        Csv(final InputStream in) throws IOException {
+            super(in);
+            final UserImportRow header = next();
+            if (header == null) {
+                return;
+            }
+            if (header.malformed() != null) {
+                throw new IllegalArgumentException("Malformed CSV header.");
+            }
+            if (!columns.containsKey("email") || !columns.containsKey("password")) {
+                throw new IllegalArgumentException("CSV header must contain at least email and password columns.");
+            }
+        }
+
+        @Override
+        UserImportRow parse(final long line, final String text) {
+            final List<String> fields = split(text);
+            if (fields == null) {
+                return UserImportRow.malformed(line, "Unbalanced quotes.");
+            }
+            if (columns.isEmpty()) {
+                for (int i = 0; i < fields.size(); i++) {
+                    columns.put(stripByteOrderMark(fields.get(i)).trim(), i);
+                }
+                return new UserImportRow(line, null, null, null, null, null, null);
+            }
+            try {
+                return new UserImportRow(line, field(fields, "name"), field(fields, "username"),
+                        field(fields, "email"), field(fields, "password"), parseGender(field(fields, "gender")), null);
+            } catch (NumberFormatException e) {
+                return UserImportRow.malformed(line, "Gender must be a number.");
+            }
+        }
+
+        private static String stripByteOrderMark(final String header) {
+            return !header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK ? header.substring(1) : header;
+        }
+
+        private String field(final List<String> fields, final String column) {
+            final Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || !COLUMNS.contains(column)) {
+                return null;
+            }
+            final String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * Splits one CSV line, honouring double-quoted fields and doubled quotes inside them.
+         *
+         * @return the fields, or {@code null} if a quote is left open.
+         */
+        static List<String> split(final String text) {
+            final List<String> fields = new ArrayList<>();
+            final StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                final char c = text.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
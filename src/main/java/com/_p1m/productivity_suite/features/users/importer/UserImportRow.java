@@ -0,0 +1,38 @@
+package com._p1m.productivity_suite.features.users.importer;
+
+import com._p1m.productivity_suite.security.dto.RegisterRequest;
+
+/**
+ * One parsed line of a bulk import. {@code malformed} is set when the line could not be parsed,
+ * in which case the other fields may be partially filled.
+ */
+public record UserImportRow(
+        long line,
+        String name,
+        String username,
+        String email,
+        String password,
+        Integer gender,
+        String malformed
+) {
+
+    static UserImportRow malformed(final long line, final String reason) {
+        return new UserImportRow(line, null, null, null, null, null, reason);
+    }
+
+    public RegisterRequest toRegisterRequest() {
+        return RegisterRequest.builder()
+                .name(name)
+                .email(email)
+                .password(password)
+                .gender(gender)
+                .build();
+    }
+
+    /**
+     * @return the username to store; imports without one log in by email, like self-registered users.
+     */
+    public String effectiveUsername() {
+        return username == null || username.isBlank() ? email : username;
+    }
+}
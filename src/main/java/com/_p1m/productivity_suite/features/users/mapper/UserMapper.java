@@ -0,0 +1,18 @@
+package com._p1m.productivity_suite.features.users.mapper;
+
+import com._p1m.productivity_suite.config.utils.EntityMapper;
+import com._p1m.productivity_suite.data.enums.Gender;
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, imports = Gender.class)
+public interface UserMapper extends EntityMapper<User, UserDto> {
+
+    @Override
+    @Mapping(target = "genderId", expression = "java(Gender.fromInt(user.getGender()).getValue())")
+    @Mapping(target = "genderName", expression = "java(Gender.fromInt(user.getGender()).getCode())")
+    UserDto toDto(User user);
+}
@@ -0,0 +1,15 @@
+package com._p1m.productivity_suite.features.users.repository;
+
+import com._p1m.productivity_suite.config.utils.EntityUtil;
+
+import java.util.Collection;
+
+public interface UserDeletionRepository extends EntityUtil.BulkDeletable {
+
+    /**
+     * Soft-deletes the given users in one statement, matching what {@code @SQLDelete} does for a single entity,
+     * and evicts every deleted user from the user cache on all nodes.
+     */
+    @Override
+    int deleteByIds(Collection<Long> ids);
+}
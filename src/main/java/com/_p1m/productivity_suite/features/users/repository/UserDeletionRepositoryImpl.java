@@ -0,0 +1,47 @@
+package com._p1m.productivity_suite.features.users.repository;
+
+import com._p1m.productivity_suite.features.users.cache.UserCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The update returns the id and email of each row it deleted, so cached copies are evicted under both keys
+ * without reading the users first. Ids that do not exist or are already deleted are not returned.
+ */
+@Transactional
+public class UserDeletionRepositoryImpl implements UserDeletionRepository {
+
+    private static final String SOFT_DELETE = """
+            UPDATE users SET deleted_at = now(), updated_at = now()
+            WHERE id IN (:ids) AND deleted_at IS NULL
+            RETURNING id, email
+            """;
+
+    private final UserCache userCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public UserDeletionRepositoryImpl(final UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @Override
+    public int deleteByIds(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        @SuppressWarnings("unchecked")
+        final List<Object[]> deleted = entityManager.createNativeQuery(SOFT_DELETE)
+                .setParameter("ids", ids)
+                .getResultList();
+        for (final Object[] user : deleted) {
+            userCache.publishInvalidation(((Number) user[0]).longValue(), (String) user[1]);
+        }
+        return deleted.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com._p1m.productivity_suite.features.users.repository;
+
+import com._p1m.productivity_suite.features.users.dto.projection.UserProfile;
+import com._p1m.productivity_suite.features.users.utils.UserCursor;
+
+import java.util.List;
+
+public interface UserListingRepository {
+
+    /**
+     * Lists live users newest first, seeking past {@code after} instead of skipping rows, so every
+     * page costs the same however deep it is.
+     *
+     * @param status        only users with this status, or all when {@code null}.
+     * @param emailVerified only users with this verification state, or all when {@code null}.
+     * @param after         the last user of the previous page, or {@code null} for the first page.
+     * @param limit         maximum number of users to return.
+     */
+    List<UserProfile> findProfilesPage(Boolean status, Boolean emailVerified, UserCursor after, int limit);
+}
@@ -0,0 +1,58 @@
+package com._p1m.productivity_suite.features.users.repository;
+
+import com._p1m.productivity_suite.features.users.dto.projection.UserProfile;
+import com._p1m.productivity_suite.features.users.utils.UserCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Builds the listing query from only the filters in use, so each combination has its own plan
+ * and can use the matching partial index from {@code db/users.sql}. The seek uses a row-value
+ * comparison, which Postgres turns into a single index range condition on {@code (created_at, id)}.
+ */
+@Transactional(readOnly = true)
+public class UserListingRepositoryImpl implements UserListingRepository {
+
+    private static final String SELECT_PROFILE = """
+            select new com._p1m.productivity_suite.features.users.dto.projection.UserProfile(
+                u.id, u.name, u.email, u.status, u.gender, u.loginFirstTime, u.createdAt, u.updatedAt)
+            from User u
+            where 1 = 1
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserProfile> findProfilesPage(final Boolean status, final Boolean emailVerified,
+                                              final UserCursor after, final int limit) {
+        final StringBuilder jpql = new StringBuilder(SELECT_PROFILE);
+        if (status != null) {
+            jpql.append(" and u.status = :status");
+        }
+        if (emailVerified != null) {
+            jpql.append(" and u.emailVerified = :emailVerified");
+        }
+        if (after != null) {
+            jpql.append(" and (u.createdAt, u.id) < (:createdAt, :id)");
+        }
+        jpql.append(" order by u.createdAt desc, u.id desc");
+
+        final TypedQuery<UserProfile> query = entityManager.createQuery(jpql.toString(), UserProfile.class);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (emailVerified != null) {
+            query.setParameter("emailVerified", emailVerified);
+        }
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt());
+            query.setParameter("id", after.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -1,14 +1,46 @@
 package com._p1m.productivity_suite.features.users.repository;
 
 import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.dto.projection.UserCredentials;
+import com._p1m.productivity_suite.features.users.dto.projection.UserExportRow;
+import com._p1m.productivity_suite.features.users.dto.projection.UserProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, UserListingRepository, UserDeletionRepository {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String identifier);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    Optional<UserProfile> findProfileByEmail(String email);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    Optional<UserCredentials> findCredentialsByUsername(String username);
+
+    /**
+     * Streams every live user in id order. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com._p1m.productivity_suite.features.users.dto.projection.UserExportRow(
+                u.id, u.name, u.username, u.email, u.emailVerified, u.status, u.gender, u.loginFirstTime,
+                u.createdAt, u.updatedAt)
+            from User u
+            order by u.id
+            """)
+    Stream<UserExportRow> streamExportRows();
 }
@@ -0,0 +1,16 @@
+package com._p1m.productivity_suite.features.users.service;
+
+import com._p1m.productivity_suite.features.users.export.UserExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserExportService {
+
+    /**
+     * Streams every live user to {@code out}, optionally gzip-compressed.
+     *
+     * @return the number of exported users.
+     */
+    long exportUsers(final OutputStream out, final UserExportFormat format, final boolean gzip) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com._p1m.productivity_suite.features.users.service;
+
+import com._p1m.productivity_suite.features.users.dto.response.UserImportReport;
+import com._p1m.productivity_suite.features.users.export.UserExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface UserImportService {
+
+    /**
+     * Creates users from a streamed NDJSON or CSV upload. Valid rows are imported even when others
+     * are rejected; every rejected row is listed in the report.
+     */
+    UserImportReport importUsers(final InputStream in, final UserExportFormat format) throws IOException;
+}
@@ -0,0 +1,8 @@
+package com._p1m.productivity_suite.features.users.service;
+
+import com._p1m.productivity_suite.features.users.dto.response.UserPage;
+
+public interface UserListingService {
+
+    UserPage listUsers(final Boolean status, final Boolean emailVerified, final String cursor, final Integer size);
+}
@@ -0,0 +1,44 @@
+package com._p1m.productivity_suite.features.users.service.impl;
+
+import com._p1m.productivity_suite.config.utils.DtoUtil;
+import com._p1m.productivity_suite.features.users.dto.projection.UserProfile;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com._p1m.productivity_suite.features.users.dto.response.UserPage;
+import com._p1m.productivity_suite.features.users.repository.UserRepository;
+import com._p1m.productivity_suite.features.users.service.UserListingService;
+import com._p1m.productivity_suite.features.users.utils.UserCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class UserListingServiceImpl implements UserListingService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final DtoUtil dtoUtil;
+
+    @Override
+    public UserPage listUsers(final Boolean status, final Boolean emailVerified, final String cursor, final Integer size) {
+        final int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        final UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+
+        // One extra row tells whether another page exists without a count query.
+        final List<UserProfile> profiles = userRepository.findProfilesPage(status, emailVerified, after, pageSize + 1);
+        final boolean hasNext = profiles.size() > pageSize;
+        final List<UserProfile> page = hasNext ? profiles.subList(0, pageSize) : profiles;
+
+        final UserProfile last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return UserPage.builder()
+                .users(dtoUtil.mapList(page, UserDto.class))
+                .nextCursor(hasNext ? new UserCursor(last.createdAt(), last.id()).encode() : null)
+                .build();
+    }
+}
@@ -1,14 +1,16 @@
 package com._p1m.productivity_suite.features.users.utils;
 
 import com._p1m.productivity_suite.config.exceptions.UnauthorizedException;
+import com._p1m.productivity_suite.config.utils.DtoUtil;
+import com._p1m.productivity_suite.features.users.cache.UserCache;
 import com._p1m.productivity_suite.features.users.dto.response.UserDto;
-import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.dto.projection.UserProfile;
 import com._p1m.productivity_suite.features.users.repository.UserRepository;
 import com._p1m.productivity_suite.security.service.JwtService;
 import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @Slf4j
@@ -16,18 +18,33 @@ public class UserUtil {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserCache userCache;
+    private final TransactionTemplate primaryReads;
+    private final DtoUtil dtoUtil;
 
-    public UserUtil(final JwtService jwtService, final UserRepository userRepository, final ModelMapper modelMapper) {
+    public UserUtil(final JwtService jwtService, final UserRepository userRepository, final UserCache userCache,
+                    final TransactionTemplate transactionTemplate, final DtoUtil dtoUtil) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
-        this.modelMapper = modelMapper;
+        this.userCache = userCache;
+        this.primaryReads = transactionTemplate;
+        this.dtoUtil = dtoUtil;
     }
 
     public UserDto getCurrentUserDto(final String authHeader) {
-        final String email = this.extractEmailFromToken(authHeader);
-        final User user = this.findUserByEmail(email);
-        return this.modelMapper.map(user, UserDto.class);
+        return this.getUserDtoByEmail(this.extractEmailFromToken(authHeader));
+    }
+
+    /**
+     * Returns the user's profile from the near cache, loading only the profile columns on a miss.
+     * The returned DTO is shared; copy it before changing any field.
+     *
+     * <p>Misses load inside a read-write transaction, which is routed to the primary. A load that follows an
+     * invalidation must see the write behind it; a lagging replica would cache the old row for the whole TTL.</p>
+     */
+    public UserDto getUserDtoByEmail(final String email) {
+        return this.userCache.getByEmail(email, key -> this.primaryReads.execute(status ->
+                this.dtoUtil.map(this.findUserProfileByEmail(key), UserDto.class)));
     }
 
     public String extractEmailFromToken(final String authHeader) {
@@ -42,8 +59,8 @@ public class UserUtil {
     }
 
 
-    public User findUserByEmail(final String email) {
-        return this.userRepository.findByEmail(email)
+    public UserProfile findUserProfileByEmail(final String email) {
+        return this.userRepository.findProfileByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("User not found for email: {}", email);
                     return new UnauthorizedException("User not found");
@@ -0,0 +1,22 @@
+package com._p1m.productivity_suite.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "app.admin")
+public class AdminProperties {
+
+    /**
+     * Emails granted {@code ROLE_ADMIN} in addition to accounts flagged {@code admin} in {@code users}. Either way
+     * the account must exist, be live, active and have a verified email; registering a listed address is not enough.
+     */
+    private Set<String> emails = new HashSet<>();
+
+    public boolean isAdmin(final String email) {
+        return email != null && emails.contains(email);
+    }
+}
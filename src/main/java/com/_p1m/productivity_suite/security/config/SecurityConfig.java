@@ -3,6 +3,7 @@ package com._p1m.productivity_suite.security.config;
 import com._p1m.productivity_suite.security.filter.CustomAuthenticationEntryPoint;
 import com._p1m.productivity_suite.security.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -16,6 +17,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
+@EnableConfigurationProperties(AdminProperties.class)
 public class SecurityConfig {
 
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
@@ -47,6 +49,11 @@ public class SecurityConfig {
                         "/swagger-resources/**",
                         "/webjars/**"
                 ).permitAll()
+                .requestMatchers(
+                        "/actuator/health",
+                        "/actuator/health/**"
+                ).permitAll()
+                .requestMatchers(JwtAuthenticationFilter.ADMIN_URLS).hasRole("ADMIN")
                 .anyRequest().authenticated();
     }
 }
\ No newline at end of file
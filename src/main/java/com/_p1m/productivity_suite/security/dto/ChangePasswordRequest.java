@@ -2,11 +2,15 @@ package com._p1m.productivity_suite.security.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ChangePasswordRequest {
     @NotBlank(message = "Email is required.")
     @Email(message = "Email should be valid.")
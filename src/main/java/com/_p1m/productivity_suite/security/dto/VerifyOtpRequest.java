@@ -1,11 +1,15 @@
 package com._p1m.productivity_suite.security.dto;
 
 import com._p1m.productivity_suite.config.annotations.ValidOtp;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class VerifyOtpRequest {
 
     @ValidOtp
@@ -1,42 +1,33 @@
 package com._p1m.productivity_suite.security.filter;
 
+import com._p1m.productivity_suite.config.response.utils.ErrorBodyTemplate;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.Instant;
 
 @Component
 @Slf4j
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private static final ErrorBodyTemplate UNAUTHORIZED_BODY = ErrorBodyTemplate.of(
+            HttpServletResponse.SC_UNAUTHORIZED,
+            "Unauthorized",
+            "You are not authorized to access this resource."
+    );
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json");
+        final byte[] body = UNAUTHORIZED_BODY.render(request.getMethod(), request.getRequestURI());
 
-        String json = """
-        {
-            "success": 0,
-            "code": 401,
-            "message": "Unauthorized",
-            "data": "You are not authorized to access this resource.",
-            "meta": {
-                "method": "%s",
-                "endpoint": "%s"
-            },
-            "duration": %d
-        }
-        """.formatted(
-                request.getMethod(),
-                request.getRequestURI(),
-                Instant.now().getEpochSecond()
-        );
-
-        response.getWriter().write(json);
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
-}
\ No newline at end of file
+}
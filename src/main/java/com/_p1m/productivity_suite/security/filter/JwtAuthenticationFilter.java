@@ -2,6 +2,7 @@ package com._p1m.productivity_suite.security.filter;
 
 import com._p1m.productivity_suite.config.exceptions.UnauthorizedException;
 import com._p1m.productivity_suite.security.service.JwtService;
+import com._p1m.productivity_suite.security.utils.AdminUtil;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,6 +11,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -24,9 +27,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /** Endpoints that require {@code ROLE_ADMIN}; only requests to these look the account's role up. */
+    public static final String ADMIN_URLS = "/productivity-suite/api/v1/admin/**";
+
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
     private final JwtService jwtService;
+    private final AdminUtil adminUtil;
 
     private final List<String> permittedUrls = Arrays.asList(
             "/productivity-suite/api/v1/auth/**",
@@ -34,7 +42,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/swagger-resources/**",
-            "/webjars/**"
+            "/webjars/**",
+            "/actuator/health",
+            "/actuator/health/**"
     );
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
@@ -65,7 +75,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     claims.getSubject(),
                     null,
-                    null
+                    isAdminPath(requestPath) && adminUtil.isAdmin(claims.getSubject()) ? ADMIN_AUTHORITIES : null
             );
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -78,7 +88,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private boolean isPermittedPath(String requestPath) {
+    boolean isPermittedPath(String requestPath) {
         return permittedUrls.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestPath));
     }
+
+    boolean isAdminPath(String requestPath) {
+        return pathMatcher.match(ADMIN_URLS, requestPath);
+    }
 }
@@ -4,8 +4,11 @@ import com._p1m.productivity_suite.config.exceptions.UnauthorizedException;
 import com._p1m.productivity_suite.config.response.dto.ApiResponse;
 import com._p1m.productivity_suite.config.service.EmailService;
 import com._p1m.productivity_suite.config.utils.DtoUtil;
-import com._p1m.productivity_suite.config.utils.EntityUtil;
-import com._p1m.productivity_suite.data.enums.Gender;
+import com._p1m.productivity_suite.features.activity.ActivityRecorder;
+import com._p1m.productivity_suite.features.activity.ActivityType;
+import com._p1m.productivity_suite.features.users.bookkeeping.LoginBookkeepingBuffer;
+import com._p1m.productivity_suite.features.users.cache.UserCache;
+import com._p1m.productivity_suite.features.users.dto.projection.UserCredentials;
 import com._p1m.productivity_suite.features.users.dto.response.UserDto;
 import com._p1m.productivity_suite.data.models.User;
 import com._p1m.productivity_suite.features.users.repository.UserRepository;
@@ -22,7 +25,6 @@ import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -42,10 +44,13 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final ModelMapper modelMapper;
     private final UserUtil userUtil;
     private final AuthUtil authUtil;
     private final EmailService emailService;
+    private final UserCache userCache;
+    private final LoginBookkeepingBuffer loginBookkeepingBuffer;
+    private final ActivityRecorder activityRecorder;
+    private final DtoUtil dtoUtil;
 
     private final Map<String, OtpUtils.OtpData> otpStore = new ConcurrentHashMap<>();
     private String emailInProcess;
@@ -55,15 +60,15 @@ public class AuthServiceImpl implements AuthService {
         final String identifier = loginRequest.getEmail();
         log.info("Authenticating user with identifier: {}", identifier);
 
-        final Optional<User> userOpt = this.userRepository.findByEmail(identifier)
-                .or(() -> this.userRepository.findByUsername(identifier));
+        final Optional<UserCredentials> credentialsOpt = this.userRepository.findCredentialsByEmail(identifier)
+                .or(() -> this.userRepository.findCredentialsByUsername(identifier));
 
-        final User user = userOpt.orElseThrow(() -> {
+        final UserCredentials credentials = credentialsOpt.orElseThrow(() -> {
             log.warn("User not found with identifier: {}", identifier);
             return new UnauthorizedException("Invalid email/username or password");
         });
 
-        if (!user.isStatus()) {
+        if (!credentials.status()) {
             log.warn("User is inactive: {}", loginRequest.getEmail());
             return ApiResponse.builder()
                     .success(0)
@@ -72,7 +77,7 @@ public class AuthServiceImpl implements AuthService {
                     .build();
         }
 
-        if (!this.passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        if (!this.passwordEncoder.matches(loginRequest.getPassword(), credentials.password())) {
             log.warn("Invalid password for user: {}", loginRequest.getEmail());
             return ApiResponse.builder()
                     .success(0)
@@ -83,21 +88,21 @@ public class AuthServiceImpl implements AuthService {
 
         log.info("User authenticated successfully: {}", loginRequest.getEmail());
 
-        boolean firstTimeLogin = false;
+        final boolean firstTimeLogin = this.loginBookkeepingBuffer.isFirstLogin(credentials.id(),
+                credentials.loginFirstTime());
 
-        if(user.isLoginFirstTime()) {
-            firstTimeLogin = true;
-            user.setLoginFirstTime(false);
-            this.userRepository.save(user);
-            log.info("User {} logged in for the first time.", user.getName());
+        this.loginBookkeepingBuffer.recordLogin(credentials.id(), credentials.email(), firstTimeLogin);
+        if (firstTimeLogin) {
+            log.info("User {} logged in for the first time.", credentials.id());
         }
+        this.activityRecorder.record(ActivityType.LOGIN, credentials.id(), routeName, browserName, pageName);
 
-        final UserDto userDto = DtoUtil.map(user, UserDto.class, modelMapper);
-        userDto.setLoginFirstTime(firstTimeLogin);
-        userDto.setGenderId(Gender.fromInt(user.getGender()).getValue());
-        userDto.setGenderName(Gender.fromInt(user.getGender()).getCode());
+        // The credentials row already carries the profile columns; a second lookup would only repeat the read.
+        final UserDto userDto = this.dtoUtil.map(credentials.profile(), UserDto.class).toBuilder()
+                .loginFirstTime(firstTimeLogin)
+                .build();
 
-        Map<String, Object> tokenData = authUtil.generateTokens(user);
+        Map<String, Object> tokenData = authUtil.generateTokens(credentials.id(), credentials.email());
 
         return ApiResponse.builder()
                 .success(1)
@@ -135,14 +140,15 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         this.userRepository.save(newUser);
+        this.userCache.publishInvalidation(newUser.getId(), newUser.getEmail());
 
-        final Map<String, Object> tokenData = this.authUtil.generateTokens(newUser);
+        final Map<String, Object> tokenData = this.authUtil.generateTokens(newUser.getId(), newUser.getEmail());
 
         final String accessToken = (String) tokenData.get("accessToken");
 
         log.info("User registered successfully: {}", registerRequest.getEmail());
 
-        final UserDto userDto = DtoUtil.map(newUser, UserDto.class, modelMapper);
+        final UserDto userDto = dtoUtil.map(newUser, UserDto.class);
 
         final String token = UUID.randomUUID().toString();
         final VerifyEmailRequest emailRequest = new VerifyEmailRequest(newUser.getEmail(), token);
@@ -162,6 +168,7 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional
     public void logout(final String accessToken) {
         if (accessToken != null && accessToken.startsWith("Bearer ")) {
             final String token = accessToken.substring(7);
@@ -183,7 +190,7 @@ public class AuthServiceImpl implements AuthService {
     public ApiResponse getCurrentUser(final String authHeader, final String routeName, final String browserName,
                                       final String pageName) {
         final UserDto userDto = userUtil.getCurrentUserDto(authHeader);
-        EntityUtil.getEntityById(userRepository, userDto.getId());
+        this.activityRecorder.record(ActivityType.PAGE_VIEW, userDto.getId(), routeName, browserName, pageName);
 
         return ApiResponse.builder()
                 .success(1)
@@ -196,6 +203,7 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional
     public ApiResponse changePassword(String email) {
         log.info("Initiating password reset for email: {}", email);
 
@@ -245,6 +253,7 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional
     public ApiResponse resetPassword(final ResetPasswordRequest resetPasswordRequest) {
         if (this.emailInProcess == null) {
             throw new UnauthorizedException("Please verify OTP first");
@@ -254,11 +263,13 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("Passwords do not match");
         }
 
+        final String encodedPassword = this.passwordEncoder.encode(resetPasswordRequest.getNewPassword());
         final User user = this.userRepository.findByEmail(emailInProcess)
                 .orElseThrow(() -> new UnauthorizedException("User not found"));
 
-        user.setPassword(this.passwordEncoder.encode(resetPasswordRequest.getNewPassword()));
+        user.setPassword(encodedPassword);
         this.userRepository.save(user);
+        this.userCache.publishInvalidation(user.getId(), user.getEmail());
 
         this.emailInProcess = null;
 
@@ -0,0 +1,45 @@
+package com._p1m.productivity_suite.security.utils;
+
+import com._p1m.productivity_suite.security.config.AdminProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Decides whether a token's subject may act as an administrator. The answer comes from the account's row, read in
+ * a read-write transaction so it is routed to the primary: a replica lagging behind a revocation or a deletion must
+ * not keep granting the role.
+ */
+@Component
+public class AdminUtil {
+
+    static final String SELECT_ADMIN = """
+            SELECT admin FROM users
+            WHERE email = ? AND deleted_at IS NULL AND status AND email_verified
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate primaryReads;
+    private final AdminProperties adminProperties;
+
+    public AdminUtil(final JdbcTemplate jdbcTemplate, final TransactionTemplate transactionTemplate,
+                     final AdminProperties adminProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.primaryReads = transactionTemplate;
+        this.adminProperties = adminProperties;
+    }
+
+    /**
+     * @return {@code true} if {@code email} belongs to a live, active, verified account that is flagged
+     * {@code admin} or listed in {@code app.admin.emails}.
+     */
+    public boolean isAdmin(final String email) {
+        if (email == null) {
+            return false;
+        }
+        final Boolean admin = this.primaryReads.execute(status -> this.jdbcTemplate.query(SELECT_ADMIN,
+                resultSet -> resultSet.next() && (resultSet.getBoolean(1) || this.adminProperties.isAdmin(email)),
+                email));
+        return Boolean.TRUE.equals(admin);
+    }
+}
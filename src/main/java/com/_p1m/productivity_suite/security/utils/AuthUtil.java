@@ -1,6 +1,5 @@
 package com._p1m.productivity_suite.security.utils;
 
-import com._p1m.productivity_suite.data.models.User;
 import com._p1m.productivity_suite.security.service.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,13 +14,13 @@ public class AuthUtil {
 
     private final JwtService jwtService;
 
-    public Map<String, Object> generateTokens(final User user) {
-        log.debug("Generating tokens for user: {}", user.getEmail());
+    public Map<String, Object> generateTokens(final Long userId, final String email) {
+        log.debug("Generating tokens for user: {}", email);
 
-        final String accessToken = this.jwtService.generateToken(ClaimsProvider.generateClaims(user),
-                user.getEmail(), 15 * 60 * 1000);
-        final String refreshToken = this.jwtService.generateToken(ClaimsProvider.generateClaims(user),
-                user.getEmail(), 7 * 24 * 60 * 60 * 1000);
+        final String accessToken = this.jwtService.generateToken(ClaimsProvider.generateClaims(userId, email),
+                email, 15 * 60 * 1000);
+        final String refreshToken = this.jwtService.generateToken(ClaimsProvider.generateClaims(userId, email),
+                email, 7 * 24 * 60 * 60 * 1000);
 
         return Map.of("accessToken", accessToken, "refreshToken", refreshToken);
     }
@@ -1,7 +1,5 @@
 package com._p1m.productivity_suite.security.utils;
 
-import com._p1m.productivity_suite.data.models.User;
-
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,10 +9,10 @@ public class ClaimsProvider {
         throw new IllegalStateException("Utility class");
     }
 
-    public static Map<String, Object> generateClaims(final User user) {
+    public static Map<String, Object> generateClaims(final Long userId, final String email) {
         final Map<String, Object> claims = new HashMap<>();
-        claims.put("id", user.getId());
-        claims.put("email", user.getEmail());
+        claims.put("id", userId);
+        claims.put("email", email);
         return claims;
     }
 }
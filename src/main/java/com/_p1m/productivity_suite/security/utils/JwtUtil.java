@@ -13,16 +13,31 @@ import java.util.Map;
 
 public class JwtUtil {
 
-    private static final Dotenv dotenv = Dotenv.load();
-    private static final String SECRET = dotenv.get("JWT_SECRET_KEY");
-    private static final Key SECRET_KEY;
+    private static final String ISSUER = "1P1M";
+    private static final String SECRET_VARIABLE = "JWT_SECRET_KEY";
 
-    static {
-        assert SECRET != null;
-        SECRET_KEY = Keys.hmacShaKeyFor(SECRET.getBytes());
-    }
+    /**
+     * Resolves the signing key on first use instead of when the class loads, so neither startup nor an
+     * AOT/CDS training run reads .env. The environment and system properties win over the .env file.
+     */
+    private static final class SigningKey {
 
-    private static final String ISSUER = "1P1M";
+        private static final Key INSTANCE = Keys.hmacShaKeyFor(resolveSecret().getBytes());
+
+        private static String resolveSecret() {
+            String secret = System.getenv(SECRET_VARIABLE);
+            if (secret == null) {
+                secret = System.getProperty(SECRET_VARIABLE);
+            }
+            if (secret == null) {
+                secret = Dotenv.configure().ignoreIfMissing().load().get(SECRET_VARIABLE);
+            }
+            if (secret == null || secret.isBlank()) {
+                throw new IllegalStateException(SECRET_VARIABLE + " is not set.");
+            }
+            return secret;
+        }
+    }
 
     public static String generateToken(final Map<String, Object> claims, final String subject, final long expirationMillis) {
         return Jwts.builder()
@@ -31,13 +46,13 @@ public class JwtUtil {
                 .setIssuer(ISSUER)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationMillis))
-                .signWith(SECRET_KEY)
+                .signWith(SigningKey.INSTANCE)
                 .compact();
     }
 
     public static Claims decodeToken(String token) {
         return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
+                .setSigningKey(SigningKey.INSTANCE)
                 .build()
                 .parseClaimsJws(token)
                 .getBody();
@@ -0,0 +1,51 @@
+-- Client activity, partitioned by month so old months can be detached or dropped cheaply.
+-- Monthly partitions are created ahead of time by ActivityPartitionMaintainer.
+CREATE TABLE IF NOT EXISTS activity_events (
+    occurred_at  TIMESTAMP NOT NULL,
+    user_id      BIGINT,
+    event_type   SMALLINT  NOT NULL,
+    route_name   VARCHAR(128),
+    browser_name VARCHAR(128),
+    page_name    VARCHAR(128)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE IF NOT EXISTS activity_events_default PARTITION OF activity_events DEFAULT;
+
+-- Events arrive in time order, so a BRIN index stays tiny and still prunes time-range scans.
+CREATE INDEX IF NOT EXISTS activity_events_occurred_brin ON activity_events USING brin (occurred_at);
+
+-- Rollups maintained incrementally by ActivityRollupJob from a watermark over activity_events.
+-- A user counts once per bucket: the first event of a user in a bucket inserts into the
+-- activity_user_* set tables, and only those new rows increment activity_active_users.
+CREATE TABLE IF NOT EXISTS activity_rollup_watermark (
+    name            VARCHAR(64) PRIMARY KEY,
+    processed_until TIMESTAMP   NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS activity_user_hours (
+    bucket  TIMESTAMP NOT NULL,
+    user_id BIGINT    NOT NULL,
+    PRIMARY KEY (bucket, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS activity_user_days (
+    bucket  TIMESTAMP NOT NULL,
+    user_id BIGINT    NOT NULL,
+    PRIMARY KEY (bucket, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS activity_active_users (
+    granularity VARCHAR(8) NOT NULL,
+    bucket      TIMESTAMP  NOT NULL,
+    users       BIGINT     NOT NULL,
+    PRIMARY KEY (granularity, bucket)
+);
+
+CREATE TABLE IF NOT EXISTS activity_counts (
+    granularity VARCHAR(8)   NOT NULL,
+    dimension   VARCHAR(16)  NOT NULL,
+    bucket      TIMESTAMP    NOT NULL,
+    value       VARCHAR(128) NOT NULL,
+    events      BIGINT       NOT NULL,
+    PRIMARY KEY (granularity, dimension, bucket, value)
+);
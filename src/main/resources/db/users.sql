@@ -0,0 +1,34 @@
+-- Runs through spring.sql.init on every start, one auto-committed statement at a time. Indexes are built
+-- CONCURRENTLY so adding one to a populated table does not block writes while it builds. A build that
+-- is interrupted leaves an INVALID index that IF NOT EXISTS would keep; drop it with
+-- DROP INDEX CONCURRENTLY before the next start so it is rebuilt.
+
+-- Lookups only ever target live rows, so the indexes skip soft-deleted users.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_email_live_idx ON users (email) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_username_live_idx ON users (username) WHERE deleted_at IS NULL;
+
+-- Keyset scan used by the archival job to find soft-deleted rows.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_deleted_idx ON users (id) WHERE deleted_at IS NOT NULL;
+
+CREATE TABLE IF NOT EXISTS users_archive (
+    id          BIGINT PRIMARY KEY,
+    email       VARCHAR(255) NOT NULL,
+    deleted_at  TIMESTAMP    NOT NULL,
+    archived_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    payload     JSONB        NOT NULL
+);
+
+-- Keyset listing of live users, newest first, optionally filtered by status or verification. Disabled and
+-- unverified accounts are rare, so pages listing them would walk most of the general index without their own.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_live_created_idx ON users (created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_live_status_created_idx
+    ON users (status, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_live_verified_created_idx
+    ON users (email_verified, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- Ids used to come from an identity column. Move the pooled sequence past every id already handed
+-- out, including archived ones, so the next allocated block cannot collide.
+SELECT setval('users_seq', GREATEST(
+    (SELECT last_value FROM users_seq),
+    (SELECT COALESCE(MAX(id), 1) FROM users),
+    (SELECT COALESCE(MAX(id), 1) FROM users_archive)));
@@ -0,0 +1,135 @@
+package com._p1m.productivity_suite;
+
+import com._p1m.productivity_suite.features.activity.ActivityEventDrainer;
+import com._p1m.productivity_suite.features.activity.ActivityProperties;
+import com._p1m.productivity_suite.features.activity.ActivityRecorder;
+import com._p1m.productivity_suite.features.activity.ActivityType;
+import com._p1m.productivity_suite.features.users.bookkeeping.LoginBookkeepingBuffer;
+import com._p1m.productivity_suite.features.users.cache.UserCache;
+import com._p1m.productivity_suite.features.users.cache.UserCacheProperties;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Audits request-path and background components for carrier pinning under virtual threads, using
+ * the JFR {@code jdk.VirtualThreadPinned} event. Blocking calls are simulated with sleeps, which
+ * pin if made while holding a monitor. Virtual threads are created reflectively so the test
+ * compiles on the Java 17 toolchain; it only runs on Java 21+.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTests {
+
+    private static final int TASKS = 64;
+    private static final long SIMULATED_IO_MILLIS = 5;
+
+    @Test
+    void auditDetectsBlockingInsideAMonitor() throws Exception {
+        final Object monitor = new Object();
+
+        final List<RecordedEvent> pinned = recordPinning(() -> {
+            synchronized (monitor) {
+                simulateIo();
+            }
+        });
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    @Test
+    void userCacheLoadsDoNotPin() throws Exception {
+        final UserCache cache = new UserCache(new UserCacheProperties(), mock(JdbcTemplate.class), new SimpleMeterRegistry());
+
+        final List<RecordedEvent> pinned = recordPinning(() -> cache.getByEmail("jane@example.com", email -> {
+            simulateIo();
+            return UserDto.builder().id(7L).email(email).build();
+        }));
+
+        assertThat(pinned).as(describe(pinned)).isEmpty();
+    }
+
+    @Test
+    void backgroundWritersDoNotPin() throws Exception {
+        final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            simulateIo();
+            return new int[0];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList(), any(int[].class));
+        doAnswer(invocation -> {
+            simulateIo();
+            return new int[0];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        final ActivityProperties properties = new ActivityProperties();
+        final ActivityRecorder recorder = new ActivityRecorder(properties, new SimpleMeterRegistry());
+        final ActivityEventDrainer drainer = new ActivityEventDrainer(recorder, jdbcTemplate, transactionTemplate, properties);
+        final LoginBookkeepingBuffer bookkeeping = new LoginBookkeepingBuffer(jdbcTemplate, transactionTemplate,
+                mock(UserCache.class));
+
+        final List<RecordedEvent> pinned = recordPinning(() -> {
+            recorder.record(ActivityType.LOGIN, 7L, "/login", "Firefox", "Login");
+            bookkeeping.recordLogin(7L, "jane@example.com", false);
+            drainer.drain();
+            bookkeeping.flush();
+        });
+
+        assertThat(pinned).as(describe(pinned)).isEmpty();
+    }
+
+    private static List<RecordedEvent> recordPinning(final Runnable task) throws Exception {
+        final Path dump = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            final ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            for (int i = 0; i < TASKS; i++) {
+                executor.execute(task);
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            recording.stop();
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private static void simulateIo() {
+        try {
+            Thread.sleep(SIMULATED_IO_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String describe(final List<RecordedEvent> pinned) {
+        return pinned.isEmpty() ? "" : "Pinned carrier threads:\n" + pinned.get(0).getStackTrace();
+    }
+}
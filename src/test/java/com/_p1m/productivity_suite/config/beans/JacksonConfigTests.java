@@ -0,0 +1,92 @@
+package com._p1m.productivity_suite.config.beans;
+
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.config.response.utils.FieldSetFilters;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com._p1m.productivity_suite.security.dto.LoginRequest;
+import com._p1m.productivity_suite.security.dto.RegisterRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigTests {
+
+    private static final ObjectMapper JSON = Jackson2ObjectMapperBuilder.json().filters(FieldSetFilters.defaultFilters()).build();
+
+    static Stream<Arguments> binaryMappers() {
+        return Stream.of(
+                Arguments.of("cbor", Jackson2ObjectMapperBuilder.cbor().filters(FieldSetFilters.defaultFilters()).build()),
+                Arguments.of("smile", Jackson2ObjectMapperBuilder.smile().filters(FieldSetFilters.defaultFilters()).build())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("binaryMappers")
+    void requestBodiesRoundTripToIdenticalDtos(final String format, final ObjectMapper binary) throws Exception {
+        final LoginRequest login = LoginRequest.builder()
+                .email("jane.doe@example.com")
+                .password("Secret#123")
+                .build();
+        final RegisterRequest register = RegisterRequest.builder()
+                .name("Jane Doe")
+                .email("jane.doe@example.com")
+                .password("Secret#123")
+                .gender(2)
+                .build();
+
+        assertThat(roundTrip(binary, login, LoginRequest.class)).isEqualTo(roundTrip(JSON, login, LoginRequest.class)).isEqualTo(login);
+        assertThat(roundTrip(binary, register, RegisterRequest.class)).isEqualTo(roundTrip(JSON, register, RegisterRequest.class)).isEqualTo(register);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("binaryMappers")
+    void responseEnvelopeDecodesToTheSameTreeAsJson(final String format, final ObjectMapper binary) throws Exception {
+        final ApiResponse response = sampleResponse();
+
+        final JsonNode fromJson = JSON.readTree(JSON.writeValueAsBytes(response));
+        final byte[] encoded = binary.writeValueAsBytes(response);
+
+        assertThat(binary.readTree(encoded)).isEqualTo(fromJson);
+        assertThat(binary.treeToValue(binary.readTree(encoded).path("data").path("users").get(0), UserDto.class))
+                .isEqualTo(sampleUser(1L));
+        assertThat(encoded.length).isLessThan(JSON.writeValueAsBytes(response).length);
+    }
+
+    private static <T> T roundTrip(final ObjectMapper mapper, final T value, final Class<T> type) throws Exception {
+        return mapper.readValue(mapper.writeValueAsBytes(value), type);
+    }
+
+    private static ApiResponse sampleResponse() {
+        return ApiResponse.builder()
+                .success(1)
+                .code(200)
+                .meta(Map.of("method", "GET", "endpoint", "/productivity-suite/api/v1/auth/me"))
+                .data(Map.of("users", List.of(sampleUser(1L), sampleUser(2L), sampleUser(3L))))
+                .message("User retrieved successfully")
+                .duration(0)
+                .build();
+    }
+
+    private static UserDto sampleUser(final long id) {
+        return UserDto.builder()
+                .id(id)
+                .name("Jane Doe")
+                .email("jane.doe" + id + "@example.com")
+                .status(true)
+                .genderId(2)
+                .genderName("Female")
+                .loginFirstTime(false)
+                .createdAt("2025-01-01T10:00:00")
+                .updatedAt("2025-01-02T10:00:00")
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com._p1m.productivity_suite.config.beans;
+
+import com._p1m.productivity_suite.features.users.dto.projection.UserExportRow;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com._p1m.productivity_suite.features.users.dto.response.UserImportReport;
+import com._p1m.productivity_suite.features.users.mapper.UserProfileMapperImpl;
+import com._p1m.productivity_suite.security.dto.LoginRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsConfigTests {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsConfigTests() {
+        new NativeHintsConfig.Hints().registerHints(this.hints, this.getClass().getClassLoader());
+    }
+
+    @Test
+    void registersJjwtImplementationsLoadedByName() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer"))
+                .accepts(this.hints);
+    }
+
+    @Test
+    void registersDtosForJsonBindingIncludingNestedRecords() {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(UserDto.class, "getEmail")).accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(LoginRequest.class, "getPassword")).accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserImportReport.RowError.class)).accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserExportRow.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(this.hints);
+    }
+
+    @Test
+    void registersGeneratedMappersAndSqlScripts() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserProfileMapperImpl.class)).accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/users.sql")).accepts(this.hints);
+    }
+}
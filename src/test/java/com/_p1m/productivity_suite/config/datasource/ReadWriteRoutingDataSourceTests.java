@@ -0,0 +1,119 @@
+package com._p1m.productivity_suite.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisabledInNativeImage
+class ReadWriteRoutingDataSourceTests {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaA = mock(DataSource.class);
+    private final DataSource replicaB = mock(DataSource.class);
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replicaA);
+        replicas.put("replica-1", replicaB);
+        routing = new ReadWriteRoutingDataSource(primary, replicas,
+                new ReadYourWritesTracker(Duration.ofSeconds(5), "X-Client-Session"), 10);
+        routing.afterPropertiesSet();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("jane@example.com", null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsRotateOverReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void sessionReadsItsOwnWritesFromThePrimary() throws SQLException {
+        commitOnPrimary("update users set password = ? where id = ?");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("someone.else@example.com", null, null));
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void transactionsThatOnlyReadOnThePrimaryDoNotStick() throws SQLException {
+        commitOnPrimary("select * from users where email = ?");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void anonymousSessionsAreTrackedByHeaderNotAddress() throws SQLException {
+        SecurityContextHolder.clearContext();
+        final MockHttpServletRequest writer = new MockHttpServletRequest();
+        writer.addHeader("X-Client-Session", "tab-1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(writer));
+        commitOnPrimary("insert into users (id) values (?)");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+
+        // Same address, e.g. another client behind the same NAT, without the session header.
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void unavailableReplicasFallBackToThePrimary() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("connection refused"));
+        routing.refreshReplicaHealth();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    private void commitOnPrimary(final String sql) throws SQLException {
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        TransactionSynchronizationManager.initSynchronization();
+        try (Connection connection = routing.getConnection()) {
+            connection.prepareStatement(sql);
+        }
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(
+                TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clear();
+    }
+}
@@ -0,0 +1,118 @@
+package com._p1m.productivity_suite.config.datasource;
+
+import com._p1m.productivity_suite.data.TestPostgres;
+import com._p1m.productivity_suite.features.users.utils.UserUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the password reset flow over HTTP with replica routing on. The "replica" pool logs in to the same embedded
+ * Postgres as a role that may only select, so a write that ends up on a replica connection fails the request as it
+ * would on a standby. Reads that precede a write in the same request must come from the primary too, so the tests
+ * that check them revoke the replica role's access to {@code users}.
+ */
+@SpringBootTest(properties = "app.warmup.enabled=false")
+@AutoConfigureMockMvc
+class ReplicaRoutingIntegrationTests {
+
+    private static final String AUTH = "/productivity-suite/api/v1/auth";
+    private static final String EMAIL = "routing@example.com";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private UserUtil userUtil;
+
+    @DynamicPropertySource
+    static void routing(final DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry, "replica_routing");
+        final String url = TestPostgres.jdbcUrl("replica_routing");
+        try (Connection connection = DriverManager.getConnection(url, "postgres", "postgres");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ROLE replica_reader LOGIN");
+            statement.execute("ALTER DEFAULT PRIVILEGES IN SCHEMA public GRANT SELECT ON TABLES TO replica_reader");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        registry.add("app.datasource.replicas[0].url", () -> TestPostgres.jdbcUrl("replica_routing", "replica_reader"));
+        registry.add("app.datasource.read-your-writes-window", () -> "PT0.1S");
+    }
+
+    @Test
+    void readThenWriteInOneRequestUsesOnlyThePrimary() throws Exception {
+        insertUser(EMAIL);
+        jdbcTemplate.execute("REVOKE SELECT ON users FROM replica_reader");
+        try {
+            resetPassword();
+        } finally {
+            jdbcTemplate.execute("GRANT SELECT ON users TO replica_reader");
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT password FROM users WHERE email = ?", String.class, EMAIL))
+                .isNotEqualTo("old-hash");
+    }
+
+    @Test
+    void userCacheMissesLoadFromThePrimary() {
+        insertUser("cached@example.com");
+        jdbcTemplate.execute("REVOKE SELECT ON users FROM replica_reader");
+        try {
+            assertThat(userUtil.getUserDtoByEmail("cached@example.com").getEmail()).isEqualTo("cached@example.com");
+        } finally {
+            jdbcTemplate.execute("GRANT SELECT ON users TO replica_reader");
+        }
+    }
+
+    private void resetPassword() throws Exception {
+        final byte[] changed = mockMvc.perform(post(AUTH + "/change-password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + EMAIL + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        final String otp = JSON.readTree(changed).path("data").path("otp").asText();
+
+        mockMvc.perform(post(AUTH + "/verify-otp")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"otp\":\"" + otp + "\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post(AUTH + "/reset-password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newPassword\":\"Secret@123\",\"confirmPassword\":\"Secret@123\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private void insertUser(final String email) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, username, email, password, email_verified, status, gender,
+                                   login_first_time, login_count, created_at, updated_at)
+                VALUES (nextval('users_seq'), 'Routing', ?, ?, 'old-hash', true, true, 1, false, 0, now(), now())
+                """, email, email);
+        routingDataSource.refreshReplicaHealth();
+    }
+}
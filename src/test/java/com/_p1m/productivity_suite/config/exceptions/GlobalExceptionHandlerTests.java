@@ -0,0 +1,53 @@
+package com._p1m.productivity_suite.config.exceptions;
+
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTests {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new HttpMessageConverters(
+            new MappingJackson2CborHttpMessageConverter(), new MappingJackson2SmileHttpMessageConverter()));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "application/cbor",
+            "application/x-jackson-smile",
+            "application/json;q=0.5, application/cbor",
+            "text/html, application/cbor;q=0.9, */*;q=0.8"
+    })
+    void leavesBinaryEncodingsToContentNegotiation(final String accept) {
+        assertThat(unauthorized(accept).getBody()).isInstanceOf(ApiResponse.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "application/json",
+            "*/*",
+            "application/cbor;q=0.5, application/json",
+            "application/cbor;q=0, */*",
+            "application/json; profile=\"cbor smile\"",
+            "application/vnd.smiley",
+            "not a media type"
+    })
+    void servesPreSerializedJsonOtherwise(final String accept) {
+        assertThat(unauthorized(accept).getBody()).isInstanceOf(byte[].class);
+    }
+
+    private ResponseEntity<?> unauthorized(final String accept) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/productivity-suite/api/v1/auth/me");
+        if (!accept.isEmpty()) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        return handler.handleUnauthorizedException(new UnauthorizedException("Unauthorized"), request);
+    }
+}
@@ -0,0 +1,58 @@
+package com._p1m.productivity_suite.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTests {
+
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setContext(context);
+        filter.addSample("com.example.auth=10");
+        filter.addSample("com.example.auth.Noisy=100");
+        filter.start();
+    }
+
+    @Test
+    void keepsOneInRateInfoEventsPerLogger() {
+        assertThat(kept("com.example.auth.Controller", Level.INFO, 1000)).isEqualTo(100);
+        assertThat(kept("com.example.auth.Noisy", Level.INFO, 1000)).isEqualTo(10);
+        assertThat(kept("com.example.other.Service", Level.INFO, 1000)).isEqualTo(1000);
+    }
+
+    @Test
+    void neverSamplesWarningsOrErrors() {
+        assertThat(kept("com.example.auth.Controller", Level.WARN, 50)).isEqualTo(50);
+        assertThat(kept("com.example.auth.Controller", Level.ERROR, 50)).isEqualTo(50);
+    }
+
+    @Test
+    void leavesDebugAndDisabledEventsToTheLoggerLevel() {
+        context.getLogger("com.example.auth.Controller").setLevel(Level.DEBUG);
+        assertThat(kept("com.example.auth.Controller", Level.DEBUG, 50)).isEqualTo(50);
+
+        context.getLogger("com.example.auth.Quiet").setLevel(Level.WARN);
+        kept("com.example.auth.Quiet", Level.INFO, 5);
+        context.getLogger("com.example.auth.Quiet").setLevel(Level.INFO);
+        assertThat(filter.decide(null, context.getLogger("com.example.auth.Quiet"), Level.INFO, "event {}", null, null))
+                .as("first enabled event after disabled ones").isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private long kept(final String loggerName, final Level level, final int events) {
+        final Logger logger = context.getLogger(loggerName);
+        return IntStream.range(0, events)
+                .filter(i -> filter.decide(null, logger, level, "event {}", null, null) == FilterReply.NEUTRAL)
+                .count();
+    }
+}
@@ -0,0 +1,36 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaptureRedactorTests {
+
+    @Test
+    void replacesCredentialFieldsAtAnyDepth() {
+        final byte[] body = """
+                {"email":"a@b.c","password":"Secret@123","profile":{"otp":"123456","newPassword":{"nested":true}},
+                 "items":[{"verificationToken":"abc"}],"footprint":"kept"}""".getBytes(StandardCharsets.UTF_8);
+
+        final String redacted = new String(CaptureRedactor.redactJson(body), StandardCharsets.UTF_8);
+
+        assertThat(redacted).isEqualTo("{\"email\":\"a@b.c\",\"password\":\"[REDACTED]\","
+                + "\"profile\":{\"otp\":\"[REDACTED]\",\"newPassword\":\"[REDACTED]\"},"
+                + "\"items\":[{\"verificationToken\":\"[REDACTED]\"}],\"footprint\":\"kept\"}");
+    }
+
+    @Test
+    void rejectsBodiesThatAreNotJson() {
+        assertThat(CaptureRedactor.redactJson("password=Secret@123".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(CaptureRedactor.redactJson("{\"password\":\"Secr".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void replacesCredentialQueryParameters() {
+        assertThat(CaptureRedactor.redactQuery("email=a%40b.c&otp=123456&token=abc&page=2"))
+                .isEqualTo("email=a%40b.c&otp=%5BREDACTED%5D&token=%5BREDACTED%5D&page=2");
+        assertThat(CaptureRedactor.redactQuery(null)).isNull();
+    }
+}
@@ -0,0 +1,158 @@
+package com._p1m.productivity_suite.config.request.capture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrafficCaptureFilterTests {
+
+    private static final String LOGIN_BODY = "{\"email\":\"a@b.c\",\"password\":\"Secret@123\"}";
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void writesRedactedRequestsThatReadBackInOrder() throws Exception {
+        final TrafficCaptureWriter writer = new TrafficCaptureWriter(properties(), meterRegistry);
+        final TrafficCaptureFilter filter = new TrafficCaptureFilter(writer, properties());
+
+        final MockHttpServletRequest login = new MockHttpServletRequest("POST", "/productivity-suite/api/v1/auth/login");
+        login.setContentType("application/json");
+        login.setContent(LOGIN_BODY.getBytes(StandardCharsets.UTF_8));
+        filter.doFilter(login, new MockHttpServletResponse(), (request, response) -> request.getInputStream().readAllBytes());
+
+        final MockHttpServletRequest me = new MockHttpServletRequest("GET", "/productivity-suite/api/v1/auth/me");
+        me.addHeader("Authorization", "Bearer secret-jwt");
+        filter.doFilter(me, new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response).setStatus(401));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                (request, response) -> { });
+        writer.stop();
+
+        final List<CapturedRequest> captured = readAll();
+        assertThat(captured).hasSize(2);
+        assertThat(captured.get(0)).satisfies(request -> {
+            assertThat(request.method()).isEqualTo("POST");
+            assertThat(request.status()).isEqualTo(200);
+            assertThat(request.has(CapturedRequest.AUTHENTICATED)).isFalse();
+            assertThat(new String(request.body(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"email\":\"a@b.c\",\"password\":\"[REDACTED]\"}");
+        });
+        assertThat(captured.get(1)).satisfies(request -> {
+            assertThat(request.uri()).isEqualTo("/productivity-suite/api/v1/auth/me");
+            assertThat(request.status()).isEqualTo(401);
+            assertThat(request.has(CapturedRequest.AUTHENTICATED)).isTrue();
+            assertThat(request.epochMicros()).isGreaterThanOrEqualTo(captured.get(0).epochMicros());
+        });
+        assertThat(Files.readString(onlyFile(), StandardCharsets.ISO_8859_1)).doesNotContain("Secret@123", "secret-jwt");
+        assertThat(meterRegistry.get("traffic.capture.written").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void leavesOutBodiesItCannotRedact() throws Exception {
+        final TrafficCaptureProperties properties = properties();
+        properties.setMaxBodyBytes(16);
+        final TrafficCaptureWriter writer = new TrafficCaptureWriter(properties, meterRegistry);
+        final TrafficCaptureFilter filter = new TrafficCaptureFilter(writer, properties);
+
+        final MockHttpServletRequest large = new MockHttpServletRequest("POST", "/login");
+        large.setContentType("application/json");
+        large.setContent(LOGIN_BODY.getBytes(StandardCharsets.UTF_8));
+        filter.doFilter(large, new MockHttpServletResponse(), (request, response) -> request.getInputStream().readAllBytes());
+
+        final MockHttpServletRequest form = new MockHttpServletRequest("POST", "/login");
+        form.setContentType("text/plain");
+        form.setContent("password=x".getBytes(StandardCharsets.UTF_8));
+        filter.doFilter(form, new MockHttpServletResponse(), (request, response) -> request.getInputStream().readAllBytes());
+        writer.stop();
+
+        final List<CapturedRequest> captured = readAll();
+        assertThat(captured.get(0).has(CapturedRequest.BODY_TRUNCATED)).isTrue();
+        assertThat(captured.get(0).body()).isEmpty();
+        assertThat(captured.get(1).has(CapturedRequest.BODY_OMITTED)).isTrue();
+        assertThat(captured.get(1).body()).isEmpty();
+    }
+
+    @Test
+    void passesRequestsThroughUnrecordedWhenDisabled() throws Exception {
+        final TrafficCaptureProperties properties = properties();
+        properties.setEnabled(false);
+        final TrafficCaptureWriter writer = new TrafficCaptureWriter(properties, meterRegistry);
+        final TrafficCaptureFilter filter = new TrafficCaptureFilter(writer, properties);
+        final MockHttpServletRequest login = new MockHttpServletRequest("POST", "/productivity-suite/api/v1/auth/login");
+        final List<Object> passed = new ArrayList<>();
+
+        filter.doFilter(login, new MockHttpServletResponse(), (request, response) -> passed.add(request));
+        writer.stop();
+
+        assertThat(passed).containsExactly(login);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void stopsReadingAtATruncatedFinalRecord() throws IOException {
+        final CapturedRequest request = new CapturedRequest(1L, "GET", "/me", "", 200, 5, 0, new byte[0]);
+        final Path file = directory.resolve("partial.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            CaptureFormat.writeHeader(out);
+            CaptureFormat.write(out, request);
+            out.writeInt(100);
+            out.write(new byte[10]);
+        }
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            CaptureFormat.readHeader(in);
+            assertThat(CaptureFormat.read(in)).usingRecursiveComparison().isEqualTo(request);
+            assertThat(CaptureFormat.read(in)).isNull();
+        }
+    }
+
+    private TrafficCaptureProperties properties() {
+        final TrafficCaptureProperties properties = new TrafficCaptureProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setBufferCapacity(16);
+        return properties;
+    }
+
+    private Path onlyFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<Path> list = files.toList();
+            assertThat(list).hasSize(1);
+            return list.get(0);
+        }
+    }
+
+    private List<CapturedRequest> readAll() throws IOException {
+        final List<CapturedRequest> captured = new ArrayList<>();
+        try (InputStream stream = Files.newInputStream(onlyFile()); DataInputStream in = new DataInputStream(stream)) {
+            CaptureFormat.readHeader(in);
+            CapturedRequest request;
+            while ((request = CaptureFormat.read(in)) != null) {
+                captured.add(request);
+            }
+        }
+        return captured;
+    }
+}
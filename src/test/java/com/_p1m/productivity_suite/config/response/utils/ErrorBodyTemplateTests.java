@@ -0,0 +1,49 @@
+package com._p1m.productivity_suite.config.response.utils;
+
+import com._p1m.productivity_suite.config.exceptions.TokenExpiredException;
+import com._p1m.productivity_suite.config.exceptions.UnauthorizedException;
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorBodyTemplateTests {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void renderedBodyMatchesSerializedApiResponse() throws Exception {
+        final String endpoint = "/productivity-suite/api/v1/auth/\"me\"\\ü";
+        final JsonNode rendered = mapper.readTree(
+                ErrorBodyTemplate.of(401, "Token has been revoked.", "Unauthorized").render("GET", endpoint));
+
+        final ApiResponse expected = ApiResponse.builder()
+                .success(0)
+                .code(401)
+                .message("Token has been revoked.")
+                .data("Unauthorized")
+                .meta(Map.of("method", "GET", "endpoint", endpoint))
+                .duration(rendered.path("duration").asDouble())
+                .build();
+
+        assertThat(rendered).isEqualTo(mapper.readTree(mapper.writeValueAsBytes(expected)));
+        assertThat(rendered.path("duration").asDouble()).isPositive();
+    }
+
+    @Test
+    void templatesAreSharedPerDistinctError() {
+        assertThat(ErrorBodyTemplate.of(410, "Invalid or expired token.", "Token Expired"))
+                .isSameAs(ErrorBodyTemplate.of(410, "Invalid or expired token.", "Token Expired"));
+    }
+
+    @Test
+    void authFailuresAreStackless() {
+        assertThat(new UnauthorizedException("Invalid email/username or password").getStackTrace()).isEmpty();
+        assertThat(new TokenExpiredException("Invalid or expired token.").getStackTrace()).isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package com._p1m.productivity_suite.config.response.utils;
+
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldSetFiltersTests {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+            .filters(FieldSetFilters.defaultFilters())
+            .build();
+
+    @Test
+    void equivalentFieldListsShareOneCompiledFilter() {
+        assertThat(FieldSetFilters.resolve("name, id")).isSameAs(FieldSetFilters.resolve("id,name,"));
+        assertThat(FieldSetFilters.resolve(" , ")).isNull();
+        assertThat(FieldSetFilters.resolve(null)).isNull();
+    }
+
+    @Test
+    void filteredWriterKeepsOnlyRequestedDtoProperties() throws Exception {
+        final ApiResponse response = ApiResponse.builder()
+                .success(1)
+                .code(200)
+                .data(Map.of("user", UserDto.builder().id(7L).name("Jane Doe").email("jane@example.com").build()))
+                .message("User retrieved successfully")
+                .build();
+
+        final JsonNode filtered = mapper.readTree(
+                mapper.writer(FieldSetFilters.resolve("id,name")).writeValueAsBytes(response));
+        final JsonNode full = mapper.readTree(mapper.writeValueAsBytes(response));
+
+        assertThat(filtered.path("data").path("user").properties()).extracting(Map.Entry::getKey)
+                .containsExactly("id", "name");
+        assertThat(filtered.path("message").asText()).isEqualTo("User retrieved successfully");
+        assertThat(full.path("data").path("user").has("email")).isTrue();
+    }
+}
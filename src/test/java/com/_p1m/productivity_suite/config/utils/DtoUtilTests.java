@@ -0,0 +1,65 @@
+package com._p1m.productivity_suite.config.utils;
+
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com._p1m.productivity_suite.features.users.dto.projection.UserProfile;
+import com._p1m.productivity_suite.features.users.mapper.UserMapperImpl;
+import com._p1m.productivity_suite.features.users.mapper.UserProfileMapperImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class DtoUtilTests {
+
+    private final DtoUtil dtoUtil = new DtoUtil(List.of(new UserMapperImpl(), new UserProfileMapperImpl()));
+
+    @Test
+    void mapsUserToDtoThroughGeneratedMapper() {
+        final User user = User.builder()
+                .id(42L)
+                .name("Jane Doe")
+                .email("jane@example.com")
+                .password("hash")
+                .gender(2)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0, 30))
+                .build();
+
+        final UserDto dto = dtoUtil.map(user, UserDto.class);
+
+        assertThat(dto.getId()).isEqualTo(42L);
+        assertThat(dto.getEmail()).isEqualTo("jane@example.com");
+        assertThat(dto.isStatus()).isTrue();
+        assertThat(dto.isLoginFirstTime()).isTrue();
+        assertThat(dto.getGenderId()).isEqualTo(2);
+        assertThat(dto.getGenderName()).isEqualTo("Female");
+        assertThat(dto.getCreatedAt()).isEqualTo("2025-01-01T10:00:30");
+        assertThat(dtoUtil.mapList(List.of(user, user), UserDto.class)).containsExactly(dto, dto);
+    }
+
+    @Test
+    void mapsProfileProjectionLikeTheEntity() {
+        final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0, 30);
+        final User user = User.builder().id(42L).name("Jane Doe").email("jane@example.com").gender(1)
+                .loginFirstTime(false).createdAt(createdAt).build();
+        final UserProfile profile = new UserProfile(42L, "Jane Doe", "jane@example.com", true, 1, false, createdAt, null);
+
+        assertThat(dtoUtil.map(profile, UserDto.class)).isEqualTo(dtoUtil.map(user, UserDto.class));
+    }
+
+    @Test
+    void resolvesMapperForEntitySubclasses() {
+        final User proxyLike = new User() { };
+        proxyLike.setId(1L);
+
+        assertThat(dtoUtil.map(proxyLike, UserDto.class).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectsUnregisteredMappings() {
+        assertThatIllegalArgumentException().isThrownBy(() -> dtoUtil.map("text", UserDto.class));
+    }
+}
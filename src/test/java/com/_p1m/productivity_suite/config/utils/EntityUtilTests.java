@@ -0,0 +1,59 @@
+package com._p1m.productivity_suite.config.utils;
+
+import com._p1m.productivity_suite.config.exceptions.EntityNotFoundException;
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisabledInNativeImage
+class EntityUtilTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    void deletesThroughASingleStatementWhenTheRepositorySupportsIt() {
+        when(userRepository.deleteByIds(List.of(7L))).thenReturn(1);
+
+        EntityUtil.deleteEntity(userRepository, 7L, "User");
+
+        verify(userRepository, never()).existsById(anyLong());
+        verify(userRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void reportsMissingEntitiesFromTheAffectedCount() {
+        when(userRepository.deleteByIds(List.of(7L))).thenReturn(0);
+
+        assertThatThrownBy(() -> EntityUtil.deleteEntity(userRepository, 7L, "User"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("User not found");
+    }
+
+    @Test
+    void bulkDeleteReturnsTheAffectedCount() {
+        when(userRepository.deleteByIds(List.of(1L, 2L, 3L))).thenReturn(2);
+
+        assertThat(EntityUtil.deleteEntities(userRepository, List.of(1L, 2L, 3L))).isEqualTo(2);
+        assertThat(EntityUtil.deleteEntities(mock(UserRepository.class), List.of())).isZero();
+    }
+
+    @Test
+    void bulkSaveReturnsTheSavedEntities() {
+        final List<User> users = List.of(User.builder().id(1L).build(), User.builder().id(2L).build());
+        when(userRepository.saveAll(users)).thenReturn(users);
+
+        assertThat(EntityUtil.saveAllEntities(userRepository, users, "User")).isEqualTo(users);
+    }
+}
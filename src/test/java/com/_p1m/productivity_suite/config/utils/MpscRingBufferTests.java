@@ -0,0 +1,78 @@
+package com._p1m.productivity_suite.config.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class MpscRingBufferTests {
+
+    @Test
+    void rejectsOffersWhenFullAndAcceptsAgainAfterDraining() {
+        final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        final List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.size()).isEqualTo(2);
+
+        buffer.drain(drained::add, 10);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 5);
+    }
+
+    @Test
+    void deliversEveryAcceptedElementExactlyOnceUnderContention() throws InterruptedException {
+        final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        final int producers = 4;
+        final int perProducer = 50_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final CountDownLatch done = new CountDownLatch(producers);
+        final AtomicInteger accepted = new AtomicInteger();
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(base + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        final Set<Integer> received = new HashSet<>();
+        final AtomicInteger duplicates = new AtomicInteger();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drain(value -> {
+                if (!received.add(value)) {
+                    duplicates.incrementAndGet();
+                }
+            }, 256);
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(duplicates).hasValue(0);
+        assertThat(received).hasSize(accepted.get());
+    }
+
+    @Test
+    void requiresPowerOfTwoCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new MpscRingBuffer<>(1000));
+    }
+}
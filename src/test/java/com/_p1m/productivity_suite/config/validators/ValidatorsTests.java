@@ -0,0 +1,113 @@
+package com._p1m.productivity_suite.config.validators;
+
+import com._p1m.productivity_suite.data.enums.Gender;
+import com._p1m.productivity_suite.security.dto.RegisterRequest;
+import com._p1m.productivity_suite.security.dto.VerifyOtpRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidatorsTests {
+
+    private static final String PASSWORD_PATTERN = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&]).+$";
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", "   ", "Short1!", "Secret#123", "Secret@123", "secret@123", "SECRET#123", "Secret#abc", "Secret1234",
+            "Sécret#123", "Secret 123!", "Secret#123\tx", "Pass\nword#1", "Pass word#1", "Ab1!Ab1!", "Ab1^Ab1^"
+    })
+    void passwordRulesMatchTheRegexPolicy(final String password) {
+        final String expected;
+        if (password.trim().isEmpty()) {
+            expected = "Password is required";
+        } else if (password.length() < 8) {
+            expected = "Password must be at least 8 characters long";
+        } else if (!password.matches(PASSWORD_PATTERN)) {
+            expected = "Password must include uppercase, lowercase, number, and special character";
+        } else {
+            expected = null;
+        }
+
+        final Set<String> messages = messages(register("Jane Doe", password, 1));
+        if (expected == null) {
+            assertThat(messages).isEmpty();
+        } else {
+            assertThat(messages).containsExactly("password: " + expected);
+        }
+    }
+
+    @Test
+    void registrationPayloadReportsEachFieldOnce() {
+        assertThat(messages(register("  ", "weakpassword", 7))).containsExactlyInAnyOrder(
+                "name: Name is required.",
+                "password: Password must include uppercase, lowercase, number, and special character",
+                "gender: Gender must be a number between 1 (Male), 2 (Female), or 3 (Other)."
+        );
+        assertThat(messages(register("Jo", "Secret@123", 2))).containsExactly("name: Name must be between 3 and 50 characters.");
+        assertThat(messages(register("Jane Doe", "Secret@123", 3))).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "12345", "123456", "1234567", "12a456", "١٢٣٤٥٦"})
+    void otpRulesMatchTheRegexPolicy(final String otp) {
+        final Set<String> messages = messages(VerifyOtpRequest.builder().otp(otp).build());
+        if (otp.trim().isEmpty()) {
+            assertThat(messages).containsExactly("otp: OTP is required.");
+        } else if (!otp.matches("\\d{6}")) {
+            assertThat(messages).containsExactly("otp: OTP must be exactly 6 digits.");
+        } else {
+            assertThat(messages).isEmpty();
+        }
+    }
+
+    @Test
+    void genderLookupIsIndexedByValue() {
+        assertThat(Gender.fromInt(1)).isEqualTo(Gender.MALE);
+        assertThat(Gender.fromInt(3)).isEqualTo(Gender.OTHER);
+        assertThat(Gender.fromInt(-1)).isEqualTo(Gender.INVALID);
+        assertThat(Gender.fromInt(4)).isEqualTo(Gender.INVALID);
+        assertThat(Gender.fromInt(null)).isEqualTo(Gender.INVALID);
+        assertThat(Gender.isValidValue(0)).isFalse();
+    }
+
+    private static RegisterRequest register(final String name, final String password, final Integer gender) {
+        return RegisterRequest.builder()
+                .name(name)
+                .email("jane.doe@example.com")
+                .password(password)
+                .gender(gender)
+                .build();
+    }
+
+    private static <T> Set<String> messages(final T request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation.class::cast)
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.toSet());
+    }
+}
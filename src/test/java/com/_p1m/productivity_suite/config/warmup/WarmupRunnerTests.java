@@ -0,0 +1,65 @@
+package com._p1m.productivity_suite.config.warmup;
+
+import com._p1m.productivity_suite.config.response.utils.FieldSetFilters;
+import com._p1m.productivity_suite.config.utils.DtoUtil;
+import com._p1m.productivity_suite.features.users.mapper.UserMapperImpl;
+import com._p1m.productivity_suite.security.service.impl.JwtServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupRunnerTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void installSecret() {
+        System.setProperty("JWT_SECRET_KEY", "warmup-tests-secret-key-with-at-least-256-bits");
+    }
+
+    @Test
+    void runsTheConfiguredIterationsAndRecordsTheirEffect() {
+        final WarmupProperties properties = new WarmupProperties();
+        properties.setIterations(WarmupRunner.LATENCY_WINDOW * 3);
+        properties.setPasswordChecks(2);
+
+        this.runner(properties).run(new DefaultApplicationArguments());
+
+        assertThat(meterRegistry.get("warmup.iterations").counter().count()).isEqualTo(WarmupRunner.LATENCY_WINDOW * 3);
+        assertThat(meterRegistry.get("warmup.password.checks").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("warmup.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("warmup.iteration.latency").tag("window", "first").timeGauge().value(TimeUnit.NANOSECONDS))
+                .isPositive();
+        assertThat(meterRegistry.get("warmup.iteration.latency").tag("window", "last").timeGauge().value(TimeUnit.NANOSECONDS))
+                .isPositive();
+    }
+
+    @Test
+    void stopsAtTheMaximumDuration() {
+        final WarmupProperties properties = new WarmupProperties();
+        properties.setIterations(Integer.MAX_VALUE);
+        properties.setPasswordChecks(0);
+        properties.setMaxDuration(Duration.ofMillis(300));
+
+        final long start = System.nanoTime();
+        this.runner(properties).run(new DefaultApplicationArguments());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get("warmup.iterations").counter().count()).isPositive().isLessThan(Integer.MAX_VALUE);
+    }
+
+    private WarmupRunner runner(final WarmupProperties properties) {
+        return new WarmupRunner(properties, new JwtServiceImpl(),
+                Jackson2ObjectMapperBuilder.json().filters(FieldSetFilters.defaultFilters()).build(),
+                new BCryptPasswordEncoder(4), meterRegistry, new DtoUtil(List.of(new UserMapperImpl())));
+    }
+}
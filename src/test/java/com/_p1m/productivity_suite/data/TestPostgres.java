@@ -0,0 +1,60 @@
+package com._p1m.productivity_suite.data;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One embedded Postgres per test JVM. Each test class gets a database of its own, so seeded rows and
+ * statistics of one class never reach another.
+ */
+public final class TestPostgres {
+
+    private static final EmbeddedPostgres POSTGRES = start();
+    private static final Set<String> DATABASES = ConcurrentHashMap.newKeySet();
+
+    private TestPostgres() {
+    }
+
+    /**
+     * Points {@code spring.datasource.*} at {@code database}, creating it on first use.
+     */
+    public static void register(final DynamicPropertyRegistry registry, final String database) {
+        final String url = jdbcUrl(database);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    public static String jdbcUrl(final String database) {
+        return jdbcUrl(database, "postgres");
+    }
+
+    /** The URL carries the user, which takes precedence over a pool's username setting. */
+    public static String jdbcUrl(final String database, final String user) {
+        if (DATABASES.add(database)) {
+            try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("CREATE DATABASE " + database);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not create test database " + database, e);
+            }
+        }
+        return POSTGRES.getJdbcUrl(user, database);
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
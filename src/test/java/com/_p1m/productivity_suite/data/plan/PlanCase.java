@@ -0,0 +1,77 @@
+package com._p1m.productivity_suite.data.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * What the plans of one repository call must look like. Every statement the call runs is checked: none may scan
+ * a table sequentially, each expected index must appear in at least one plan, and no plan may exceed the
+ * estimated cost budget.
+ */
+public final class PlanCase {
+
+    private final String method;
+    private final Runnable call;
+    private final List<String> indexes = new ArrayList<>();
+    private String variant = "";
+    private double costBudget = Double.NaN;
+
+    private PlanCase(final String method, final Runnable call) {
+        this.method = method;
+        this.call = call;
+    }
+
+    /**
+     * @param method the repository method the call exercises; every declared method needs at least one case.
+     * @param call   invokes the method with arguments that hit seeded rows.
+     */
+    public static PlanCase of(final String method, final Runnable call) {
+        return new PlanCase(method, call);
+    }
+
+    /** Distinguishes several cases for one method, e.g. different filter combinations. */
+    public PlanCase variant(final String variant) {
+        this.variant = variant;
+        return this;
+    }
+
+    /** Requires {@code index} in the plan of at least one statement; may be given several times. */
+    public PlanCase usesIndex(final String index) {
+        this.indexes.add(index);
+        return this;
+    }
+
+    /** The highest estimated total cost any statement of the call may have; required. */
+    public PlanCase costAtMost(final double costBudget) {
+        this.costBudget = costBudget;
+        return this;
+    }
+
+    String method() {
+        return method;
+    }
+
+    Runnable call() {
+        return call;
+    }
+
+    String displayName() {
+        return variant.isEmpty() ? method : method + " (" + variant + ")";
+    }
+
+    void verify(final List<QueryPlan> plans) {
+        assertThat(costBudget).as("cost budget of %s", displayName()).isNotNaN();
+        assertThat(plans).as("statements run by %s", displayName()).isNotEmpty();
+
+        final List<String> usedIndexes = plans.stream().flatMap(plan -> plan.indexes().stream()).toList();
+        assertThat(usedIndexes).as("indexes used by %s in%n%s", displayName(), plans).containsAll(indexes);
+        for (final QueryPlan plan : plans) {
+            assertThat(plan.sequentialScans()).as("tables scanned sequentially by %s in%n%s", displayName(), plan)
+                    .isEmpty();
+            assertThat(plan.totalCost()).as("estimated cost of %s in%n%s", displayName(), plan)
+                    .isLessThanOrEqualTo(costBudget);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com._p1m.productivity_suite.data.plan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A statement's {@code EXPLAIN (FORMAT JSON)} output: the indexes its plan reads, the tables it scans
+ * sequentially and the planner's estimated total cost.
+ */
+public record QueryPlan(String sql, JsonNode plan) {
+
+    public double totalCost() {
+        return root().path("Total Cost").asDouble();
+    }
+
+    public List<String> indexes() {
+        final List<String> indexes = new ArrayList<>();
+        collect(root(), node -> node.has("Index Name") ? node.get("Index Name").asText() : null, indexes);
+        return indexes;
+    }
+
+    public List<String> sequentialScans() {
+        final List<String> relations = new ArrayList<>();
+        collect(root(), node -> "Seq Scan".equals(node.path("Node Type").asText())
+                ? node.path("Relation Name").asText() : null, relations);
+        return relations;
+    }
+
+    @Override
+    public String toString() {
+        return sql + System.lineSeparator() + plan.toPrettyString();
+    }
+
+    private JsonNode root() {
+        return plan.path(0).path("Plan");
+    }
+
+    private static void collect(final JsonNode node, final Function<JsonNode, String> extractor,
+                                final List<String> into) {
+        final String value = extractor.apply(node);
+        if (value != null) {
+            into.add(value);
+        }
+        for (final JsonNode child : node.path("Plans")) {
+            collect(child, extractor, into);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com._p1m.productivity_suite.data.plan;
+
+import com._p1m.productivity_suite.data.TestPostgres;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base class for query-plan regression tests. Runs the JPA layer against an embedded Postgres with the schema and
+ * indexes from {@code db/*.sql}, lets the subclass seed a realistic number of rows, then executes each
+ * {@link PlanCase} in a rolled-back transaction and checks the {@code EXPLAIN (FORMAT JSON)} output of every
+ * statement it ran, with the same parameter values.
+ *
+ * <p>A new repository gets a subclass that seeds its tables and returns {@link #planTests} from a
+ * {@code @TestFactory}; a repository method without a case fails the run, so new queries cannot skip the check.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatementRecorder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class QueryPlanTestSupport {
+
+    private static final String APPLICATION_PACKAGE = "com._p1m.productivity_suite";
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Set<Class<?>> SEEDED = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @DynamicPropertySource
+    static void embeddedPostgres(final DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry, "query_plans");
+    }
+
+    /** Inserts the rows the plans are checked against. Runs once per test class, followed by {@code ANALYZE}. */
+    protected abstract void seed(JdbcTemplate jdbcTemplate);
+
+    @BeforeEach
+    void seedOnce() {
+        if (SEEDED.add(getClass())) {
+            seed(jdbcTemplate);
+            jdbcTemplate.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * One test checking that every method declared by {@code repository} (and by the application interfaces it
+     * extends) has a case, then one test per case.
+     */
+    protected Stream<DynamicTest> planTests(final Class<?> repository, final PlanCase... cases) {
+        final DynamicTest coverage = DynamicTest.dynamicTest("every " + repository.getSimpleName() + " method has a plan case",
+                () -> assertThat(Arrays.stream(cases).map(PlanCase::method).toList())
+                        .as("methods with a plan case")
+                        .containsAll(declaredMethods(repository)));
+        return Stream.concat(Stream.of(coverage), Arrays.stream(cases).map(planCase ->
+                DynamicTest.dynamicTest(planCase.displayName(), () -> planCase.verify(explain(planCase.call())))));
+    }
+
+    private List<QueryPlan> explain(final Runnable call) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            recorder.drain();
+            call.run();
+            final List<StatementRecorder.Statement> statements = recorder.drain();
+            final List<QueryPlan> plans = new ArrayList<>(statements.size());
+            for (final StatementRecorder.Statement statement : statements) {
+                plans.add(new QueryPlan(statement.sql(), explain(statement)));
+            }
+            return plans;
+        });
+    }
+
+    private JsonNode explain(final StatementRecorder.Statement statement) {
+        return jdbcTemplate.query(connection -> {
+            final PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql());
+            for (final StatementRecorder.Binding binding : statement.bindings()) {
+                binding.applyTo(explain);
+            }
+            return explain;
+        }, resultSet -> {
+            resultSet.next();
+            try {
+                return JSON.readTree(resultSet.getString(1));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static Set<String> declaredMethods(final Class<?> repository) {
+        final Set<String> methods = new TreeSet<>();
+        for (final Class<?> type : interfaces(repository)) {
+            for (final Method method : type.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+                    methods.add(method.getName());
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static List<Class<?>> interfaces(final Class<?> type) {
+        final List<Class<?>> interfaces = new ArrayList<>();
+        if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+            interfaces.add(type);
+        }
+        for (final Class<?> parent : type.getInterfaces()) {
+            interfaces.addAll(interfaces(parent));
+        }
+        return interfaces;
+    }
+}
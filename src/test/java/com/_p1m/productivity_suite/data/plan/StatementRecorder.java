@@ -0,0 +1,111 @@
+package com._p1m.productivity_suite.data.plan;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wraps the application {@link DataSource} so every prepared statement the repositories execute is recorded with
+ * its parameter bindings, ready to be re-run under {@code EXPLAIN} by {@link QueryPlanTestSupport}.
+ */
+public class StatementRecorder implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "addBatch");
+
+    /** A parameter setter call, e.g. {@code setString(1, "a@b.c")}, replayable on another statement. */
+    record Binding(Method setter, Object[] arguments) {
+
+        void applyTo(final PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, arguments);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sql) {
+                    throw sql;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    /** One executed statement with the bindings in effect when it ran. */
+    public record Statement(String sql, List<Binding> bindings) {
+    }
+
+    private final List<Statement> statements = new ArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        return bean instanceof DataSource dataSource ? recording(dataSource) : bean;
+    }
+
+    /**
+     * @return the statements executed since the last call, in order.
+     */
+    public synchronized List<Statement> drain() {
+        final List<Statement> drained = List.copyOf(statements);
+        statements.clear();
+        return drained;
+    }
+
+    private synchronized void record(final Statement statement) {
+        statements.add(statement);
+    }
+
+    private DataSource recording(final DataSource target) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            final Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? recording(connection) : result;
+        });
+    }
+
+    private Connection recording(final Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            final Object result = invoke(target, method, args);
+            return method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                    ? recording(statement, (String) args[0])
+                    : result;
+        });
+    }
+
+    private PreparedStatement recording(final PreparedStatement target, final String sql) {
+        final List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, target, (proxy, method, args) -> {
+            final String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (EXECUTE_METHODS.contains(name) && (args == null || args.length == 0)) {
+                record(new Statement(sql, List.copyOf(bindings)));
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final T target, final InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                method.getName().equals("unwrap") && args[0] == type ? proxy : handler.invoke(proxy, method, args));
+    }
+}
@@ -0,0 +1,51 @@
+package com._p1m.productivity_suite.features.activity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityRecorderTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void dropsAndCountsEventsWhenTheBufferIsFull() {
+        final ActivityProperties properties = new ActivityProperties();
+        properties.setBufferCapacity(2);
+        final ActivityRecorder recorder = new ActivityRecorder(properties, meterRegistry);
+
+        recorder.record(ActivityType.LOGIN, 1L, "/login", "Firefox", "Login");
+        recorder.record(ActivityType.PAGE_VIEW, 1L, "/me", "Firefox", "Profile");
+        recorder.record(ActivityType.PAGE_VIEW, 1L, "/me", "Firefox", "Profile");
+
+        assertThat(meterRegistry.get("activity.events.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("activity.events.buffered").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void truncatesOversizedClientFields() {
+        final ActivityRecorder recorder = new ActivityRecorder(new ActivityProperties(), meterRegistry);
+
+        recorder.record(ActivityType.PAGE_VIEW, null, "r".repeat(500), null, "Profile");
+
+        final List<ActivityEvent> events = new ArrayList<>();
+        recorder.drain(events::add, 10);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.routeName()).hasSize(ActivityRecorder.MAX_FIELD_LENGTH);
+            assertThat(event.browserName()).isNull();
+            assertThat(event.pageName()).isEqualTo("Profile");
+        });
+    }
+
+    @Test
+    void createsMonthlyPartitionBounds() {
+        assertThat(ActivityPartitionMaintainer.createPartitionSql(YearMonth.of(2026, 12))).isEqualTo(
+                "CREATE TABLE IF NOT EXISTS activity_events_2026_12 PARTITION OF activity_events"
+                        + " FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+    }
+}
@@ -0,0 +1,125 @@
+package com._p1m.productivity_suite.features.activity.rollup;
+
+import com._p1m.productivity_suite.data.TestPostgres;
+import com._p1m.productivity_suite.features.users.cache.UserCacheTestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link ActivityRollupJob#ROLL_UP_STEP} against an embedded Postgres, from a watermark at 10:00.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(UserCacheTestConfiguration.class)
+class ActivityRollupJobTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO activity_events (occurred_at, user_id, event_type, route_name, browser_name, page_name)
+            VALUES (?, ?, 2, 'route', 'Firefox', ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void embeddedPostgres(final DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry, "activity_rollup");
+    }
+
+    @Test
+    void countsEachUserOncePerBucketUpToTheWatermarkAndNotAgainOnReruns() {
+        jdbcTemplate.update("INSERT INTO activity_rollup_watermark (name, processed_until) VALUES ('activity', ?)",
+                Timestamp.valueOf(START));
+        event(START.plusMinutes(5), 1L, "home");
+        event(START.plusMinutes(20), 1L, "home");
+        event(START.plusMinutes(40), 1L, "settings");
+        event(START.plusMinutes(50), 2L, "home");
+        event(START.plusMinutes(55), null, "home");
+        event(START.plusHours(1).plusMinutes(10), 1L, "home");
+        event(START.plusHours(2).minusNanos(1_000), 3L, "home");
+        event(START.plusHours(2), 1L, "home");
+
+        rollUpUntil(START.plusHours(2));
+
+        assertThat(activeUsers()).containsExactly(
+                Map.entry("day 2026-03-01 00:00", 3L),
+                Map.entry("hour 2026-03-01 10:00", 2L),
+                Map.entry("hour 2026-03-01 11:00", 2L));
+        assertThat(pageViews("hour", START)).containsExactly(Map.entry("home", 4L), Map.entry("settings", 1L));
+        assertThat(pageViews("day", START)).containsExactly(Map.entry("home", 6L), Map.entry("settings", 1L));
+        assertThat(watermark()).isEqualTo(START.plusHours(2));
+
+        // Same settled time again: nothing new, nothing counted twice.
+        rollUpUntil(START.plusHours(2));
+        assertThat(activeUsers()).containsEntry("day 2026-03-01 00:00", 3L).hasSize(3);
+        assertThat(pageViews("day", START)).containsExactly(Map.entry("home", 6L), Map.entry("settings", 1L));
+
+        // The event at the old watermark falls in the next step; user 1 is already counted for the day.
+        rollUpUntil(START.plusHours(3));
+        assertThat(activeUsers()).containsEntry("day 2026-03-01 00:00", 3L)
+                .containsEntry("hour 2026-03-01 12:00", 1L).hasSize(4);
+        assertThat(pageViews("day", START)).containsExactly(Map.entry("home", 7L), Map.entry("settings", 1L));
+        assertThat(watermark()).isEqualTo(START.plusHours(3));
+    }
+
+    private void rollUpUntil(final LocalDateTime settledUntil) {
+        final ActivityRollupJob job = new ActivityRollupJob(jdbcTemplate, transactionTemplate);
+        int steps = 0;
+        while (job.rollUpStep(Timestamp.valueOf(settledUntil))) {
+            assertThat(++steps).as("steps").isLessThan(10);
+        }
+    }
+
+    private void event(final LocalDateTime occurredAt, final Long userId, final String page) {
+        jdbcTemplate.update(INSERT_EVENT, Timestamp.valueOf(occurredAt), userId, page);
+    }
+
+    private Map<String, Long> activeUsers() {
+        return toMap(jdbcTemplate.queryForList("""
+                SELECT granularity || ' ' || to_char(bucket, 'YYYY-MM-DD HH24:MI') AS key, users AS value
+                FROM activity_active_users ORDER BY key
+                """));
+    }
+
+    private Map<String, Long> pageViews(final String granularity, final LocalDateTime at) {
+        return toMap(jdbcTemplate.queryForList("""
+                SELECT value AS key, events AS value FROM activity_counts
+                WHERE granularity = ? AND dimension = 'page' AND bucket = date_trunc(?, ?::timestamp)
+                ORDER BY key
+                """, granularity, granularity, Timestamp.valueOf(at)));
+    }
+
+    private LocalDateTime watermark() {
+        return jdbcTemplate.queryForObject("SELECT processed_until FROM activity_rollup_watermark WHERE name = 'activity'",
+                Timestamp.class).toLocalDateTime();
+    }
+
+    private static Map<String, Long> toMap(final List<Map<String, Object>> rows) {
+        final Map<String, Long> map = new LinkedHashMap<>();
+        rows.forEach(row -> map.put((String) row.get("key"), ((Number) row.get("value")).longValue()));
+        return map;
+    }
+}
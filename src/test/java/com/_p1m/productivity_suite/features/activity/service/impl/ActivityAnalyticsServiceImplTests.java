@@ -0,0 +1,58 @@
+package com._p1m.productivity_suite.features.activity.service.impl;
+
+import com._p1m.productivity_suite.features.activity.dto.ActivityCount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage
+class ActivityAnalyticsServiceImplTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ActivityAnalyticsServiceImpl service = new ActivityAnalyticsServiceImpl(jdbcTemplate);
+
+    @Test
+    void combinesWholeDaysWithHourlyEdges() {
+        service.getTopValues("page", LocalDateTime.of(2026, 3, 1, 10, 30), LocalDateTime.of(2026, 3, 4, 5, 15), 10);
+
+        verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<ActivityCount>>any(), eq("page"),
+                eq(ts(2026, 3, 2, 0)), eq(ts(2026, 3, 4, 0)),
+                eq(ts(2026, 3, 1, 10)), eq(ts(2026, 3, 2, 0)),
+                eq(ts(2026, 3, 4, 0)), eq(ts(2026, 3, 4, 5)),
+                eq(10));
+    }
+
+    @Test
+    void usesOnlyHourlyRowsWithinASingleDay() {
+        service.getTopValues("browser", LocalDateTime.of(2026, 3, 1, 10, 0), LocalDateTime.of(2026, 3, 1, 18, 0), 5);
+
+        verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<ActivityCount>>any(), eq("browser"),
+                eq(ts(2026, 3, 1, 18)), eq(ts(2026, 3, 1, 18)),
+                eq(ts(2026, 3, 1, 10)), eq(ts(2026, 3, 1, 18)),
+                eq(ts(2026, 3, 1, 18)), eq(ts(2026, 3, 1, 18)),
+                eq(5));
+    }
+
+    @Test
+    void rejectsUnknownDimensionsAndOversizedRanges() {
+        final LocalDateTime now = LocalDateTime.now();
+        assertThatIllegalArgumentException().isThrownBy(() -> service.getTopValues("user_id", now.minusDays(1), now, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> service.getTopValues("page", now.minusYears(2), now, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> service.getTopValues("page", now, now, 10));
+    }
+
+    private static Timestamp ts(final int year, final int month, final int day, final int hour) {
+        return Timestamp.valueOf(LocalDateTime.of(year, month, day, hour, 0));
+    }
+}
@@ -0,0 +1,102 @@
+package com._p1m.productivity_suite.features.users.archive;
+
+import com._p1m.productivity_suite.data.TestPostgres;
+import com._p1m.productivity_suite.features.users.cache.UserCacheTestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link UserArchivalJob#ARCHIVE_BATCH} against an embedded Postgres: the {@code DELETE ... RETURNING} feeding
+ * {@code INSERT INTO users_archive}, its cutoff, keyset batches and {@code SKIP LOCKED}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(UserCacheTestConfiguration.class)
+class UserArchivalJobPostgresTests {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, name, username, email, password, email_verified, status, gender, login_first_time,
+                               login_count, created_at, updated_at, deleted_at)
+            VALUES (?, ?, ?, ?, 'secret-hash', true, true, 1, false, 0, now(), now(), ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void embeddedPostgres(final DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry, "user_archival");
+    }
+
+    @Test
+    void movesUsersDeletedBeforeTheCutoffInBatchesAndSkipsLockedRows() throws Exception {
+        insert(1, null);
+        insert(2, CUTOFF.minusDays(1));
+        insert(3, CUTOFF.minusDays(40));
+        insert(4, CUTOFF.plusDays(1));
+        insert(5, CUTOFF.minusDays(2));
+        insert(6, CUTOFF.minusDays(3));
+        insert(7, CUTOFF.minusDays(4));
+
+        try (Connection other = DriverManager.getConnection(TestPostgres.jdbcUrl("user_archival"));
+             Statement statement = other.createStatement()) {
+            other.setAutoCommit(false);
+            statement.executeQuery("SELECT id FROM users WHERE id = 5 FOR UPDATE").close();
+
+            assertThat(job().archiveDeletedUsers(CUTOFF)).isEqualTo(4);
+            other.rollback();
+        }
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class)).containsExactly(1L, 4L, 5L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM users_archive ORDER BY id", Long.class))
+                .containsExactly(2L, 3L, 6L, 7L);
+        assertThat(jdbcTemplate.queryForMap("""
+                SELECT email, deleted_at, payload ->> 'name' AS name, payload ? 'password' AS has_password
+                FROM users_archive WHERE id = 3
+                """))
+                .containsEntry("email", "user-3@example.com")
+                .containsEntry("deleted_at", Timestamp.valueOf(CUTOFF.minusDays(40)))
+                .containsEntry("name", "User 3")
+                .containsEntry("has_password", false);
+
+        assertThat(job().archiveDeletedUsers(CUTOFF)).as("the row locked before").isEqualTo(1);
+        assertThat(job().archiveDeletedUsers(CUTOFF)).as("nothing left").isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class)).containsExactly(1L, 4L);
+    }
+
+    private UserArchivalJob job() {
+        final UserArchivalProperties properties = new UserArchivalProperties();
+        properties.setBatchSize(2);
+        properties.setBatchPause(Duration.ZERO);
+        return new UserArchivalJob(jdbcTemplate, transactionTemplate, properties);
+    }
+
+    private void insert(final long id, final LocalDateTime deletedAt) {
+        jdbcTemplate.update(INSERT_USER, id, "User " + id, "user-" + id, "user-" + id + "@example.com",
+                deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+    }
+}
@@ -0,0 +1,54 @@
+package com._p1m.productivity_suite.features.users.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisabledInNativeImage
+class UserArchivalJobTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final UserArchivalProperties properties = new UserArchivalProperties();
+    private final UserArchivalJob job;
+
+    UserArchivalJobTests() {
+        properties.setBatchSize(2);
+        properties.setBatchPause(Duration.ZERO);
+        job = new UserArchivalJob(jdbcTemplate, new TransactionTemplate(transactionManager), properties);
+    }
+
+    @Test
+    void movesRowsInKeysetBatchesUntilAShortBatch() {
+        when(jdbcTemplate.queryForList(eq(UserArchivalJob.ARCHIVE_BATCH), eq(Long.class), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(3L, 5L));
+        when(jdbcTemplate.queryForList(eq(UserArchivalJob.ARCHIVE_BATCH), eq(Long.class), any(), eq(5L), eq(2)))
+                .thenReturn(List.of(9L));
+
+        assertThat(job.archiveDeletedUsers(LocalDateTime.now())).isEqualTo(3);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void doesNothingWhenNoUserIsDueForArchival() {
+        when(jdbcTemplate.queryForList(eq(UserArchivalJob.ARCHIVE_BATCH), eq(Long.class), any(), eq(0L), eq(2)))
+                .thenReturn(List.of());
+
+        assertThat(job.archiveDeletedUsers(LocalDateTime.now())).isZero();
+        verify(transactionManager, times(1)).commit(any());
+    }
+}
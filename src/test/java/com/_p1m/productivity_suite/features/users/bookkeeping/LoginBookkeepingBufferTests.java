@@ -0,0 +1,93 @@
+package com._p1m.productivity_suite.features.users.bookkeeping;
+
+import com._p1m.productivity_suite.features.users.cache.UserCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisabledInNativeImage
+class LoginBookkeepingBufferTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserCache userCache = mock(UserCache.class);
+    private final LoginBookkeepingBuffer buffer = new LoginBookkeepingBuffer(jdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), userCache);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesLoginsPerUserIntoOneUpdate() {
+        buffer.recordLogin(9L, "john@example.com", false);
+        buffer.recordLogin(7L, "jane@example.com", true);
+        buffer.recordLogin(7L, "jane@example.com", false);
+
+        buffer.flush();
+
+        final ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(LoginBookkeepingBuffer.UPDATE_LOGIN), batch.capture());
+        assertThat(batch.getValue()).hasSize(2);
+        assertThat(batch.getValue().get(0)).endsWith(2L, true, 7L);
+        assertThat(batch.getValue().get(1)).endsWith(1L, false, 9L);
+        verify(userCache).publishInvalidation(7L, "jane@example.com");
+        verify(userCache, never()).publishInvalidation(eq(9L), eq("john@example.com"));
+    }
+
+    @Test
+    void tracksFirstLoginsUntilTheirUpdateHasCommitted() {
+        buffer.recordLogin(7L, "jane@example.com", true);
+        assertThat(buffer.isFirstLogin(7L, true)).isFalse();
+
+        // Logins that arrive while the flush is running must not see the flag as set again.
+        when(jdbcTemplate.batchUpdate(eq(LoginBookkeepingBuffer.UPDATE_LOGIN), anyList())).thenAnswer(invocation -> {
+            assertThat(buffer.isFirstLogin(7L, true)).isFalse();
+            return new int[]{1};
+        });
+        buffer.flush();
+
+        verify(jdbcTemplate, never()).queryForObject(LoginBookkeepingBuffer.SELECT_FIRST_LOGIN, Boolean.class, 7L);
+    }
+
+    @Test
+    void confirmsAStoredFlagAgainstThePrimary() {
+        when(jdbcTemplate.queryForObject(LoginBookkeepingBuffer.SELECT_FIRST_LOGIN, Boolean.class, 7L))
+                .thenReturn(false);
+        when(jdbcTemplate.queryForObject(LoginBookkeepingBuffer.SELECT_FIRST_LOGIN, Boolean.class, 8L))
+                .thenReturn(true);
+
+        assertThat(buffer.isFirstLogin(7L, true)).as("flag cleared on the primary, stale replica").isFalse();
+        assertThat(buffer.isFirstLogin(8L, true)).isTrue();
+        assertThat(buffer.isFirstLogin(9L, false)).isFalse();
+        verify(jdbcTemplate, never()).queryForObject(LoginBookkeepingBuffer.SELECT_FIRST_LOGIN, Boolean.class, 9L);
+    }
+
+    @Test
+    void keepsEntriesForTheNextFlushWhenTheUpdateFails() {
+        when(jdbcTemplate.batchUpdate(eq(LoginBookkeepingBuffer.UPDATE_LOGIN), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1});
+        buffer.recordLogin(7L, "jane@example.com", true);
+
+        buffer.flush();
+        verifyNoInteractions(userCache);
+        assertThat(buffer.isFirstLogin(7L, true)).isFalse();
+
+        buffer.stop();
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(LoginBookkeepingBuffer.UPDATE_LOGIN), anyList());
+        verify(userCache).publishInvalidation(7L, "jane@example.com");
+    }
+}
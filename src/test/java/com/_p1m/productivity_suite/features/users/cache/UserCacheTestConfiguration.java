@@ -0,0 +1,20 @@
+package com._p1m.productivity_suite.features.users.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A real {@link UserCache} for slices that leave it out, such as {@code @DataJpaTest}, where the user repository's
+ * deletion fragment needs one. Its invalidations reach the test database; metrics go to a registry of its own.
+ * Unlike {@code @MockBean}, this can be processed ahead of time for native tests.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class UserCacheTestConfiguration {
+
+    @Bean
+    UserCache userCache(final JdbcTemplate jdbcTemplate) {
+        return new UserCache(new UserCacheProperties(), jdbcTemplate, new SimpleMeterRegistry());
+    }
+}
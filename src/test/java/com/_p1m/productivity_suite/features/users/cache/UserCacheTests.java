@@ -0,0 +1,61 @@
+package com._p1m.productivity_suite.features.users.cache;
+
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage
+class UserCacheTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserCache cache = new UserCache(new UserCacheProperties(), jdbcTemplate, meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesRepeatedLookupsFromEitherKey() {
+        cache.getByEmail("jane@example.com", this::load);
+        cache.getByEmail("jane@example.com", this::load);
+        cache.getById(7L, id -> load("unexpected@example.com"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("key", "email").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void publishedInvalidationEvictsBothKeysAndNotifiesOtherNodes() {
+        cache.getByEmail("jane@example.com", this::load);
+
+        cache.publishInvalidation(7L, "jane@example.com");
+        cache.getById(7L, id -> load("jane@example.com"));
+
+        assertThat(loads).hasValue(2);
+        verify(jdbcTemplate).queryForObject(eq("SELECT pg_notify(?, ?)"), eq(Object.class),
+                eq("user_cache_invalidation"), eq("7:jane@example.com"));
+    }
+
+    @Test
+    void notificationPayloadWithOnlyAnIdEvictsTheEmailEntryToo() {
+        cache.getByEmail("jane@example.com", this::load);
+
+        cache.applyInvalidation("7:");
+        cache.getByEmail("jane@example.com", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private UserDto load(final String email) {
+        loads.incrementAndGet();
+        return UserDto.builder().id(7L).email(email).name("Jane Doe").build();
+    }
+}
@@ -0,0 +1,73 @@
+package com._p1m.productivity_suite.features.users.export;
+
+import com._p1m.productivity_suite.features.users.dto.projection.UserExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class UserExportWriterTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0, 30);
+
+    @Test
+    void writesOneJsonObjectPerLine() throws IOException {
+        final String output = export(UserExportFormat.NDJSON,
+                row(1L, "Jane Doe"), row(2L, "John Roe"));
+
+        assertThat(output.split("\n")).hasSize(2);
+        assertThat(output).startsWith("{\"id\":1,\"name\":\"Jane Doe\"").endsWith("}\n");
+        assertThat(output).contains("\"createdAt\":\"2025-01-01T10:00:30\"");
+    }
+
+    @Test
+    void quotesCsvFieldsThatContainSeparators() throws IOException {
+        final String output = export(UserExportFormat.CSV, row(1L, "Doe, \"Jane\""));
+
+        assertThat(output).isEqualTo(
+                "id,name,username,email,emailVerified,status,gender,loginFirstTime,createdAt,updatedAt\r\n"
+                        + "1,\"Doe, \"\"Jane\"\"\",jane,jane@example.com,true,true,1,false,2025-01-01T10:00:30,\r\n");
+    }
+
+    @Test
+    void prefixesCsvCellsThatSpreadsheetsWouldEvaluate() throws IOException {
+        final String output = export(UserExportFormat.CSV,
+                row(1L, "=HYPERLINK(\"http://evil.test\")"), row(2L, "+1"), row(3L, "-2"), row(4L, "@SUM(A1)"),
+                row(5L, "Jane-Doe"));
+
+        assertThat(output.lines().skip(1).map(line -> line.substring(0, line.indexOf(",jane,"))))
+                .containsExactly("1,\"'=HYPERLINK(\"\"http://evil.test\"\")\"", "2,'+1", "3,'-2", "4,'@SUM(A1)",
+                        "5,Jane-Doe");
+    }
+
+    @Test
+    void rejectsUnknownFormats() {
+        assertThat(UserExportFormat.fromParameter("csv")).isEqualTo(UserExportFormat.CSV);
+        assertThatIllegalArgumentException().isThrownBy(() -> UserExportFormat.fromParameter("xml"));
+    }
+
+    private String export(final UserExportFormat format, final UserExportRow... rows) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final UserExportWriter writer = UserExportWriter.of(format, out, objectMapper);
+        for (final UserExportRow row : rows) {
+            writer.write(row);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private UserExportRow row(final Long id, final String name) {
+        return new UserExportRow(id, name, "jane", "jane@example.com", true, true, 1, false, createdAt, null);
+    }
+}
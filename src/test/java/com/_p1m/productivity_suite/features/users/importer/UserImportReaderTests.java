@@ -0,0 +1,69 @@
+package com._p1m.productivity_suite.features.users.importer;
+
+import com._p1m.productivity_suite.features.users.export.UserExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class UserImportReaderTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsCsvColumnsByHeaderName() throws IOException {
+        final List<UserImportRow> rows = read(UserExportFormat.CSV, """
+                email,name,password,gender,id
+                jane@example.com,"Doe, Jane",Secret@123,2,99
+
+                john@example.com,John,Secret@123,x,100
+                """);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).isEqualTo(new UserImportRow(2, "Doe, Jane", null, "jane@example.com", "Secret@123", 2, null));
+        assertThat(rows.get(0).effectiveUsername()).isEqualTo("jane@example.com");
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).malformed()).isEqualTo("Gender must be a number.");
+    }
+
+    @Test
+    void rejectsCsvWithoutCredentialColumns() {
+        assertThatIllegalArgumentException().isThrownBy(() -> read(UserExportFormat.CSV, "name,gender\nJane,1\n"));
+    }
+
+    @Test
+    void reportsMalformedJsonLinesWithoutStopping() throws IOException {
+        final List<UserImportRow> rows = read(UserExportFormat.NDJSON, """
+                {"name":"Jane","username":"jane","email":"jane@example.com","password":"Secret@123","gender":2}
+                {"name":
+                """);
+
+        assertThat(rows.get(0).username()).isEqualTo("jane");
+        assertThat(rows.get(0).gender()).isEqualTo(2);
+        assertThat(rows.get(1).malformed()).isEqualTo("Malformed JSON.");
+    }
+
+    @Test
+    void splitsQuotedCsvFields() {
+        assertThat(UserImportReader.Csv.split("a,\"b,\"\"c\"\"\",")).containsExactly("a", "b,\"c\"", "");
+        assertThat(UserImportReader.Csv.split("a,\"b")).isNull();
+    }
+
+    private List<UserImportRow> read(final UserExportFormat format, final String input) throws IOException {
+        final UserImportReader reader = UserImportReader.of(format,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), objectMapper);
+        final List<UserImportRow> rows = new ArrayList<>();
+        UserImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
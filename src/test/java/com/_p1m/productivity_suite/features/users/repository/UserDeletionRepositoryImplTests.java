@@ -0,0 +1,71 @@
+package com._p1m.productivity_suite.features.users.repository;
+
+import com._p1m.productivity_suite.data.TestPostgres;
+import com._p1m.productivity_suite.features.users.cache.UserCache;
+import com._p1m.productivity_suite.features.users.cache.UserCacheTestConfiguration;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserCacheTestConfiguration.class)
+class UserDeletionRepositoryImplTests {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, name, username, email, password, email_verified, status, gender, login_first_time,
+                               login_count, created_at, updated_at, deleted_at)
+            VALUES (?, ?, ?, ?, 'not-a-hash', true, true, 1, false, 0, now(), now(), ?)
+            """;
+
+    @Autowired
+    private UserRepository users;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserCache userCache;
+
+    @DynamicPropertySource
+    static void embeddedPostgres(final DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry, "user_deletion");
+    }
+
+    @Test
+    void softDeletesLiveUsersAndEvictsEachFromTheCache() {
+        insert(1, null);
+        insert(2, null);
+        insert(3, Timestamp.valueOf("2025-01-01 00:00:00"));
+        for (long id = 1; id <= 3; id++) {
+            userCache.getById(id, UserDeletionRepositoryImplTests::cached);
+        }
+
+        assertThat(users.deleteByIds(List.of(1L, 2L, 3L, 4L))).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM users WHERE deleted_at IS NULL", Long.class)).isEmpty();
+        assertThat(userCache.getByEmail("user-1@example.com", email -> null)).isNull();
+        assertThat(userCache.getById(2L, id -> null)).isNull();
+        assertThat(userCache.getByEmail("user-3@example.com", email -> null)).isNotNull();
+        assertThat(users.deleteByIds(List.of())).isZero();
+    }
+
+    private static UserDto cached(final long id) {
+        return UserDto.builder().id(id).email("user-" + id + "@example.com").build();
+    }
+
+    private void insert(final long id, final Timestamp deletedAt) {
+        jdbcTemplate.update(INSERT_USER, id, "User " + id, "user-" + id, "user-" + id + "@example.com", deletedAt);
+    }
+}
@@ -0,0 +1,83 @@
+package com._p1m.productivity_suite.features.users.repository;
+
+import com._p1m.productivity_suite.data.plan.PlanCase;
+import com._p1m.productivity_suite.data.plan.QueryPlanTestSupport;
+import com._p1m.productivity_suite.features.users.cache.UserCacheTestConfiguration;
+import com._p1m.productivity_suite.features.users.utils.UserCursor;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Plans of every {@link UserRepository} query over 100k users, one in twenty soft-deleted, one in a thousand
+ * disabled and one in five hundred unverified. Point lookups must stay on their partial indexes, listing pages on
+ * a keyset index and the export on the primary key instead of sorting. Pages of the rare disabled or unverified
+ * accounts must use their filtered keyset index. Budgets are about three times today's estimates: a lost index
+ * costs orders of magnitude more, ordinary drift in the estimates does not.
+ */
+@Import(UserCacheTestConfiguration.class)
+class UserRepositoryQueryPlanTests extends QueryPlanTestSupport {
+
+    private static final int USERS = 100_000;
+
+    private static final String SEED_USERS = """
+            INSERT INTO users (id, name, username, email, password, email_verified, status, gender, login_first_time,
+                               login_count, created_at, updated_at, deleted_at)
+            SELECT nextval('users_seq'), 'Plan User ' || g, 'plan-user-' || g, 'plan-user-' || g || '@plan.test',
+                   'not-a-hash', g % 500 <> 0, g % 1000 <> 0, 1 + g % 3, false, 0,
+                   TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute',
+                   CASE WHEN g % 20 = 0 THEN TIMESTAMP '2025-01-01' END
+            FROM generate_series(1, ?) AS g
+            """;
+
+    private static final UserCursor MIDDLE = new UserCursor(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(USERS / 2),
+            (long) USERS / 2);
+
+    @Autowired
+    private UserRepository users;
+
+    @Override
+    protected void seed(final JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update(SEED_USERS, USERS);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> userRepositoryPlans() {
+        return planTests(UserRepository.class,
+                PlanCase.of("findByEmail", () -> users.findByEmail(email(4_242)))
+                        .usesIndex("users_email_live_idx").costAtMost(25),
+                PlanCase.of("findByUsername", () -> users.findByUsername("plan-user-4242"))
+                        .usesIndex("users_username_live_idx").costAtMost(25),
+                PlanCase.of("findProfileByEmail", () -> users.findProfileByEmail(email(4_242)))
+                        .usesIndex("users_email_live_idx").costAtMost(25),
+                PlanCase.of("findCredentialsByEmail", () -> users.findCredentialsByEmail(email(4_242)))
+                        .usesIndex("users_email_live_idx").costAtMost(25),
+                PlanCase.of("findCredentialsByUsername", () -> users.findCredentialsByUsername("plan-user-4242"))
+                        .usesIndex("users_username_live_idx").costAtMost(25),
+                PlanCase.of("findProfilesPage", () -> users.findProfilesPage(null, null, null, 20))
+                        .variant("first page").usesIndex("users_live_created_idx").costAtMost(30),
+                PlanCase.of("findProfilesPage", () -> users.findProfilesPage(null, null, MIDDLE, 20))
+                        .variant("deep page").usesIndex("users_live_created_idx").costAtMost(30),
+                PlanCase.of("findProfilesPage", () -> users.findProfilesPage(false, null, MIDDLE, 20))
+                        .variant("by status").usesIndex("users_live_status_created_idx").costAtMost(120),
+                PlanCase.of("findProfilesPage", () -> users.findProfilesPage(null, false, MIDDLE, 20))
+                        .variant("by verification").usesIndex("users_live_verified_created_idx").costAtMost(120),
+                PlanCase.of("streamExportRows", () -> {
+                    try (Stream<?> rows = users.streamExportRows()) {
+                        rows.limit(10).forEach(row -> { });
+                    }
+                }).usesIndex("users_pkey").costAtMost(15_000),
+                PlanCase.of("deleteByIds", () -> users.deleteByIds(List.of(100L, 200L, 300L)))
+                        .usesIndex("users_pkey").costAtMost(50));
+    }
+
+    private static String email(final int user) {
+        return "plan-user-" + user + "@plan.test";
+    }
+}
@@ -0,0 +1,115 @@
+package com._p1m.productivity_suite.features.users.service.impl;
+
+import com._p1m.productivity_suite.data.TestPostgres;
+import com._p1m.productivity_suite.data.models.User;
+import com._p1m.productivity_suite.features.users.cache.UserCacheTestConfiguration;
+import com._p1m.productivity_suite.features.users.dto.response.UserImportReport;
+import com._p1m.productivity_suite.features.users.export.UserExportFormat;
+import com._p1m.productivity_suite.features.users.importer.UserImportProperties;
+import com._p1m.productivity_suite.features.users.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports into an embedded Postgres that Hibernate also allocates ids in, so both share {@code users_seq}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(UserCacheTestConfiguration.class)
+class UserImportServiceImplTests {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void embeddedPostgres(final DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry, "user_import");
+    }
+
+    @Test
+    void takesOneSequenceBlockPerFiftyImportedUsers() throws Exception {
+        final User existing = userRepository.save(user("taken@import.test"));
+        final long sequenceBefore = jdbcTemplate.queryForObject("SELECT last_value FROM users_seq", Long.class);
+
+        final StringBuilder ndjson = new StringBuilder("""
+                {"name":"Taken","email":"taken@import.test","password":"Secret@123","gender":1}
+                """);
+        for (int i = 0; i < ROWS; i++) {
+            ndjson.append("{\"name\":\"Import ").append(i).append("\",\"email\":\"import-").append(i)
+                    .append("@import.test\",\"password\":\"Secret@123\",\"gender\":1}\n");
+        }
+        final UserImportReport report = importer(new UserImportProperties()).importUsers(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), UserExportFormat.NDJSON);
+
+        assertThat(report.getImported()).isEqualTo(ROWS);
+        assertThat(report.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.messages()).containsExactly("Email is already in use"));
+        final long sequenceAfter = jdbcTemplate.queryForObject("SELECT last_value FROM users_seq", Long.class);
+        assertThat(sequenceAfter - sequenceBefore).as("ids reserved by the import").isEqualTo(3 * 50);
+
+        final List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'import-%' ORDER BY id", Long.class);
+        assertThat(ids).hasSize(ROWS).doesNotHaveDuplicates().allMatch(id -> id > existing.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", String.class, ids.get(0)))
+                .as("ids follow line order").isEqualTo("import-0@import.test");
+
+        // Hibernate's next block must not overlap the imported ids.
+        assertThat(userRepository.save(user("after@import.test")).getId()).isNotIn(ids);
+    }
+
+    @Test
+    void countsEveryRejectedRowButListsOnlyTheFirst() throws Exception {
+        final StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            ndjson.append("{\"name\":\"Bad ").append(i).append("\",\"email\":\"not-an-email-").append(i)
+                    .append("\",\"password\":\"Secret@123\",\"gender\":1}\n");
+        }
+        final UserImportProperties properties = new UserImportProperties();
+        properties.setMaxReportedErrors(5);
+
+        final UserImportReport report = importer(properties).importUsers(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), UserExportFormat.NDJSON);
+
+        assertThat(report.getImported()).isZero();
+        assertThat(report.getFailed()).isEqualTo(30);
+        assertThat(report.getErrors()).extracting(UserImportReport.RowError::line).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @SuppressWarnings("deprecation")
+    private UserImportServiceImpl importer(final UserImportProperties properties) {
+        return new UserImportServiceImpl(new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                NoOpPasswordEncoder.getInstance(), jdbcTemplate, transactionTemplate, properties);
+    }
+
+    private static User user(final String email) {
+        return User.builder().name("Someone").username(email).email(email).password("not-a-hash").gender(1).emailVerified(false)
+                .build();
+    }
+}
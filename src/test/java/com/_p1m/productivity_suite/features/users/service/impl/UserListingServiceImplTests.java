@@ -0,0 +1,63 @@
+package com._p1m.productivity_suite.features.users.service.impl;
+
+import com._p1m.productivity_suite.config.utils.DtoUtil;
+import com._p1m.productivity_suite.features.users.dto.projection.UserProfile;
+import com._p1m.productivity_suite.features.users.dto.response.UserPage;
+import com._p1m.productivity_suite.features.users.mapper.UserProfileMapperImpl;
+import com._p1m.productivity_suite.features.users.repository.UserRepository;
+import com._p1m.productivity_suite.features.users.utils.UserCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisabledInNativeImage
+class UserListingServiceImplTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 0, 30, 123_456_000);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserListingServiceImpl service = new UserListingServiceImpl(userRepository,
+            new DtoUtil(List.of(new UserProfileMapperImpl())));
+
+    @Test
+    void returnsCursorOfLastUserWhenAnotherPageExists() {
+        when(userRepository.findProfilesPage(eq(true), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(profile(9L), profile(8L), profile(7L)));
+
+        final UserPage page = service.listUsers(true, null, null, 2);
+
+        assertThat(page.getUsers()).extracting("id").containsExactly(9L, 8L);
+        assertThat(UserCursor.decode(page.getNextCursor())).isEqualTo(new UserCursor(CREATED_AT, 8L));
+    }
+
+    @Test
+    void seeksPastTheCursorAndEndsOnAShortPage() {
+        final UserCursor cursor = new UserCursor(CREATED_AT, 8L);
+        when(userRepository.findProfilesPage(isNull(), eq(false), eq(cursor), eq(3)))
+                .thenReturn(List.of(profile(7L)));
+
+        final UserPage page = service.listUsers(null, false, cursor.encode(), 2);
+
+        assertThat(page.getUsers()).extracting("id").containsExactly(7L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsTamperedCursorsAndOversizedPages() {
+        assertThatIllegalArgumentException().isThrownBy(() -> service.listUsers(null, null, "not-a-cursor", null));
+        assertThatIllegalArgumentException().isThrownBy(() -> service.listUsers(null, null, null, 1000));
+    }
+
+    private static UserProfile profile(final Long id) {
+        return new UserProfile(id, "User " + id, "user" + id + "@example.com", true, 1, false, CREATED_AT, null);
+    }
+}
@@ -0,0 +1,74 @@
+package com._p1m.productivity_suite.security.filter;
+
+import com._p1m.productivity_suite.security.service.JwtService;
+import com._p1m.productivity_suite.security.utils.AdminUtil;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisabledInNativeImage
+class JwtAuthenticationFilterTests {
+
+    private static final String EMAIL = "jane@example.com";
+
+    private final JwtService jwtService = mock(JwtService.class);
+    private final AdminUtil adminUtil = mock(AdminUtil.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, adminUtil);
+
+    @BeforeEach
+    void validToken() {
+        final Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(EMAIL);
+        when(jwtService.validateToken("token")).thenReturn(claims);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void grantsAdminOnAdminPathsWhenTheAccountQualifies() throws Exception {
+        when(adminUtil.isAdmin(EMAIL)).thenReturn(true);
+
+        assertThat(authenticate("/productivity-suite/api/v1/admin/users").getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void withholdsAdminOnAdminPathsWhenTheAccountDoesNotQualify() throws Exception {
+        when(adminUtil.isAdmin(EMAIL)).thenReturn(false);
+
+        assertThat(authenticate("/productivity-suite/api/v1/admin/users").getAuthorities()).isEmpty();
+    }
+
+    @Test
+    void otherPathsNeverLookTheRoleUp() throws Exception {
+        final Authentication authentication = authenticate("/productivity-suite/api/v1/users/me");
+
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+        assertThat(authentication.getAuthorities()).isEmpty();
+        verifyNoInteractions(adminUtil);
+    }
+
+    private Authentication authenticate(final String path) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", "Bearer token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,67 @@
+package com._p1m.productivity_suite.security.service.impl;
+
+import com._p1m.productivity_suite.config.response.dto.ApiResponse;
+import com._p1m.productivity_suite.config.service.EmailService;
+import com._p1m.productivity_suite.config.utils.DtoUtil;
+import com._p1m.productivity_suite.features.activity.ActivityRecorder;
+import com._p1m.productivity_suite.features.users.bookkeeping.LoginBookkeepingBuffer;
+import com._p1m.productivity_suite.features.users.cache.UserCache;
+import com._p1m.productivity_suite.features.users.dto.projection.UserCredentials;
+import com._p1m.productivity_suite.features.users.dto.response.UserDto;
+import com._p1m.productivity_suite.features.users.mapper.UserProfileMapperImpl;
+import com._p1m.productivity_suite.features.users.repository.UserRepository;
+import com._p1m.productivity_suite.features.users.utils.UserUtil;
+import com._p1m.productivity_suite.security.dto.LoginRequest;
+import com._p1m.productivity_suite.security.service.JwtService;
+import com._p1m.productivity_suite.security.utils.AuthUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisabledInNativeImage
+class AuthServiceImplTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 0, 30);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserUtil userUtil = mock(UserUtil.class);
+    private final AuthUtil authUtil = mock(AuthUtil.class);
+    private final LoginBookkeepingBuffer loginBookkeepingBuffer = mock(LoginBookkeepingBuffer.class);
+
+    @SuppressWarnings("deprecation")
+    private final AuthServiceImpl service = new AuthServiceImpl(userRepository, NoOpPasswordEncoder.getInstance(),
+            mock(JwtService.class), userUtil, authUtil, mock(EmailService.class), mock(UserCache.class),
+            loginBookkeepingBuffer, mock(ActivityRecorder.class), new DtoUtil(List.of(new UserProfileMapperImpl())));
+
+    @Test
+    void loginBuildsTheCurrentUserFromTheCredentialsRow() {
+        final UserCredentials credentials = new UserCredentials(7L, "Jane Doe", "jane@example.com", "Secret@123",
+                true, 2, true, CREATED_AT, CREATED_AT);
+        when(userRepository.findCredentialsByEmail("jane@example.com")).thenReturn(Optional.of(credentials));
+        when(loginBookkeepingBuffer.isFirstLogin(7L, true)).thenReturn(true);
+        when(authUtil.generateTokens(7L, "jane@example.com")).thenReturn(Map.of("accessToken", "token"));
+
+        final ApiResponse response = service.authenticateUser(
+                LoginRequest.builder().email("jane@example.com").password("Secret@123").build(), "login", "test", "login");
+
+        final UserDto user = (UserDto) ((Map<?, ?>) response.getData()).get("currentUser");
+        assertThat(response.getSuccess()).isEqualTo(1);
+        assertThat(user.getId()).isEqualTo(7L);
+        assertThat(user.getName()).isEqualTo("Jane Doe");
+        assertThat(user.getGenderName()).isEqualTo("Female");
+        assertThat(user.isLoginFirstTime()).isTrue();
+        verify(userRepository).findCredentialsByEmail("jane@example.com");
+        verifyNoInteractions(userUtil);
+    }
+}
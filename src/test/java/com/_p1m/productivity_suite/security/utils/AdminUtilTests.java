@@ -0,0 +1,76 @@
+package com._p1m.productivity_suite.security.utils;
+
+import com._p1m.productivity_suite.data.TestPostgres;
+import com._p1m.productivity_suite.security.config.AdminProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the role lookup against the columns the {@code User} entity maps, on a table of its own so the
+ * predicate is checked by Postgres rather than by a mock.
+ */
+@DisabledInNativeImage
+class AdminUtilTests {
+
+    private static final DriverManagerDataSource DATA_SOURCE =
+            new DriverManagerDataSource(TestPostgres.jdbcUrl("admin_util"));
+    private static final JdbcTemplate JDBC = new JdbcTemplate(DATA_SOURCE);
+
+    private final AdminProperties properties = adminEmails("listed@example.com", "unverified-listed@example.com");
+    private final AdminUtil adminUtil = new AdminUtil(JDBC,
+            new TransactionTemplate(new DataSourceTransactionManager(DATA_SOURCE)), properties);
+
+    @BeforeAll
+    static void seed() {
+        JDBC.execute("""
+                CREATE TABLE users (
+                    id bigserial PRIMARY KEY,
+                    email varchar(255) NOT NULL,
+                    status boolean NOT NULL,
+                    email_verified boolean NOT NULL,
+                    admin boolean NOT NULL DEFAULT false,
+                    deleted_at timestamp
+                )
+                """);
+        JDBC.update("""
+                INSERT INTO users (email, status, email_verified, admin, deleted_at) VALUES
+                    ('flagged@example.com', true, true, true, NULL),
+                    ('listed@example.com', true, true, false, NULL),
+                    ('member@example.com', true, true, false, NULL),
+                    ('unverified-listed@example.com', true, false, false, NULL),
+                    ('disabled@example.com', false, true, true, NULL),
+                    ('deleted@example.com', true, true, true, now())
+                """);
+    }
+
+    @Test
+    void grantsFlaggedAndListedLiveVerifiedAccounts() {
+        assertThat(adminUtil.isAdmin("flagged@example.com")).isTrue();
+        assertThat(adminUtil.isAdmin("listed@example.com")).isTrue();
+    }
+
+    @Test
+    void refusesEveryoneElse() {
+        assertThat(adminUtil.isAdmin("member@example.com")).isFalse();
+        assertThat(adminUtil.isAdmin("unverified-listed@example.com")).isFalse();
+        assertThat(adminUtil.isAdmin("disabled@example.com")).isFalse();
+        assertThat(adminUtil.isAdmin("deleted@example.com")).isFalse();
+        assertThat(adminUtil.isAdmin("unknown@example.com")).isFalse();
+        assertThat(adminUtil.isAdmin(null)).isFalse();
+    }
+
+    private static AdminProperties adminEmails(final String... emails) {
+        final AdminProperties properties = new AdminProperties();
+        properties.setEmails(Set.of(emails));
+        return properties;
+    }
+}